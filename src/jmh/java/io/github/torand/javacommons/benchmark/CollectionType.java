@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.stream.IntStream;
+
+/**
+ * The collection types benchmarked with varying input sizes.
+ */
+public enum CollectionType {
+    ARRAY_LIST,
+    LINKED_LIST,
+    HASH_SET,
+    ARRAY;
+
+    /**
+     * Creates an array of consecutive integers starting at zero.
+     * @param size the number of elements.
+     * @return the array.
+     */
+    public static Integer[] createArray(int size) {
+        return IntStream.range(0, size).boxed().toArray(Integer[]::new);
+    }
+
+    /**
+     * Creates a collection of this type containing consecutive integers starting at zero.
+     * Arrays are represented by a fixed-size list view of the array.
+     * @param size the number of elements.
+     * @return the collection.
+     */
+    public Collection<Integer> createCollection(int size) {
+        Integer[] elements = createArray(size);
+        return switch (this) {
+            case ARRAY_LIST -> new ArrayList<>(Arrays.asList(elements));
+            case LINKED_LIST -> new LinkedList<>(Arrays.asList(elements));
+            case HASH_SET -> new HashSet<>(Arrays.asList(elements));
+            case ARRAY -> Arrays.asList(elements);
+        };
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayHelperBenchmark {
+
+    @Param({"100", "10000", "10000000"})
+    private int size;
+
+    private int[] array;
+    private int[] sortedArray;
+
+    @Setup
+    public void setup() {
+        array = new Random(42).ints(size, 0, 1000).toArray();
+        sortedArray = array.clone();
+        Arrays.sort(sortedArray);
+    }
+
+    @Benchmark
+    public long sum() {
+        return ArrayHelper.sum(array);
+    }
+
+    @Benchmark
+    public long streamSum() {
+        // Baseline for sum
+        return Arrays.stream(array).asLongStream().sum();
+    }
+
+    @Benchmark
+    public int max() {
+        return ArrayHelper.max(array);
+    }
+
+    @Benchmark
+    public int streamMax() {
+        // Baseline for max
+        return Arrays.stream(array).max().getAsInt();
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return ArrayHelper.indexOf(array, -1);
+    }
+
+    @Benchmark
+    public int[] intersectSorted() {
+        return ArrayHelper.intersectSorted(sortedArray, sortedArray);
+    }
+
+    @Benchmark
+    public int[] distinct() {
+        return ArrayHelper.distinct(array);
+    }
+
+    @Benchmark
+    public long[] histogram() {
+        return ArrayHelper.histogram(array, 0, 1000, 10);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import io.github.torand.javacommons.benchmark.CollectionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionHelperBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    @Param
+    private CollectionType collectionType;
+
+    private Collection<Integer> collection;
+    private Integer[] array;
+    private Integer[] manyItems;
+    private Collection<Integer> otherCollection;
+
+    @Setup
+    public void setup() {
+        collection = collectionType.createCollection(size);
+        array = CollectionType.createArray(size);
+        manyItems = IntStream.range(0, 64).map(i -> size - 1 - i * 2).boxed().toArray(Integer[]::new);
+        otherCollection = collectionType.createCollection(size / 2);
+    }
+
+    @Benchmark
+    public Integer headOf() {
+        return CollectionHelper.headOf(collection);
+    }
+
+    @Benchmark
+    public Integer tailOf() {
+        return CollectionHelper.tailOf(collection);
+    }
+
+    @Benchmark
+    public Integer nthOf() {
+        return CollectionHelper.nthOf(collection, size / 2);
+    }
+
+    @Benchmark
+    public List<Integer> lastN() {
+        return CollectionHelper.lastN(collection, 10);
+    }
+
+    @Benchmark
+    public boolean containsOneOf() {
+        return CollectionHelper.containsOneOf(collection, -1, -2, size - 1);
+    }
+
+    @Benchmark
+    public boolean containsOneOfMany() {
+        return CollectionHelper.containsOneOf(collection, manyItems);
+    }
+
+    @Benchmark
+    public boolean containsAllOf() {
+        return CollectionHelper.containsAllOf(collection, manyItems);
+    }
+
+    @Benchmark
+    public Set<Integer> intersect() {
+        return CollectionHelper.intersect(collection, otherCollection);
+    }
+
+    @Benchmark
+    public Set<Integer> difference() {
+        return CollectionHelper.difference(collection, otherCollection);
+    }
+
+    @Benchmark
+    public List<Integer> asList() {
+        return CollectionHelper.asList(collection);
+    }
+
+    @Benchmark
+    public List<Integer> concat() {
+        return CollectionHelper.concat(collection, collection);
+    }
+
+    @Benchmark
+    public List<Integer> concatArray() {
+        return CollectionHelper.concat(collection, array);
+    }
+
+    @Benchmark
+    public Integer concatAndGet() {
+        List<Integer> concatenated = CollectionHelper.concat(collection, collection);
+        return concatenated.get(concatenated.size() / 2);
+    }
+
+    @Benchmark
+    public List<Integer> reversedView() {
+        return collection instanceof List<Integer> list ? CollectionHelper.reversedView(list) : null;
+    }
+
+    @Benchmark
+    public List<Integer> reverse() {
+        return CollectionHelper.reverse(collection);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveCollectionBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private IntHashSet intHashSet;
+    private Set<Integer> hashSet;
+
+    @Setup
+    public void setup() {
+        intHashSet = new IntHashSet(size);
+        hashSet = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            intHashSet.add(i * 7);
+            hashSet.add(i * 7);
+        }
+    }
+
+    @Benchmark
+    public IntHashSet intHashSetAdd() {
+        IntHashSet set = new IntHashSet();
+        for (int i = 0; i < size; i++) {
+            set.add(i * 7);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public Set<Integer> hashSetAdd() {
+        Set<Integer> set = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            set.add(i * 7);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public int intHashSetContains() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            found += intHashSet.contains(i) ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int hashSetContains() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            found += hashSet.contains(i) ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long intArrayListSum() {
+        IntArrayList list = new IntArrayList(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list.stream().asLongStream().sum();
+    }
+}
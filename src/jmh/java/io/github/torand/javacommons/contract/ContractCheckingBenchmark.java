@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the checks of {@link Requires} with contract checking disabled, compared to having no checks at all.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-D" + ContractChecking.PROPERTY + "=false")
+@State(Scope.Benchmark)
+public class ContractCheckingBenchmark {
+
+    private String string = "value";
+    private List<String> list = List.of("a", "b");
+    private int number = 100_000;
+
+    @Benchmark
+    public int noCheck() {
+        // Baseline
+        return string.length() + list.size() + number;
+    }
+
+    @Benchmark
+    public int disabledChecks() {
+        Requires.requireNonBlank(string, "string is blank: %d", number);
+        Requires.requireNonEmpty(list, "list is empty: %d", number);
+        Requires.require(() -> number > 0, "number is not positive: %d", number);
+        return string.length() + list.size() + number;
+    }
+
+    @Benchmark
+    public int disabledCategory() {
+        if (Checks.CATEGORY.isEnabled()) {
+            Requires.requireNonBlank(string, "string is blank: %d", number);
+        }
+        return string.length() + list.size() + number;
+    }
+
+    private static final class Checks {
+        static final ContractChecking.Category CATEGORY = ContractChecking.category(ContractCheckingBenchmark.class);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContractMetricsBenchmark {
+
+    @Param({"false", "true"})
+    private boolean metrics;
+
+    private int number = 100_000;
+
+    @Setup
+    public void setup() {
+        ContractMetrics.setEnabled(metrics);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ContractMetrics.setEnabled(false);
+        ContractMetrics.reset();
+    }
+
+    @Benchmark
+    public int passingCheck() {
+        Requires.require(() -> number > 0, "number is not positive: %d", number);
+        return number;
+    }
+
+    @Benchmark
+    public RuntimeException failingCheck() {
+        try {
+            Requires.require(() -> number < 0, "number is not negative: %d", number);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequiresBenchmark {
+
+    private String string = "value";
+    private List<String> list = List.of("a", "b");
+    // Outside the Integer cache, so boxing a message parameter on the passing path would show up as allocation
+    private int number = 100_000;
+
+    @Benchmark
+    public String handWrittenCheck() {
+        // Baseline for the passing path of the checks below
+        if (string == null || string.isEmpty()) {
+            throw new IllegalArgumentException("string is blank: " + number);
+        }
+        return string;
+    }
+
+    @Benchmark
+    public String requireNonBlank() {
+        return Requires.requireNonBlank(string, "string is blank: %d", number);
+    }
+
+    @Benchmark
+    public String requireNonBlankVarargs() {
+        return Requires.requireNonBlank(string, "string is blank: %d %d %d %d", number, number, number, number);
+    }
+
+    @Benchmark
+    public String requireNonBlankSupplier() {
+        return Requires.requireNonBlank(string, () -> "string is blank: " + number);
+    }
+
+    @Benchmark
+    public List<String> requireNonEmpty() {
+        return Requires.requireNonEmpty(list, "list is empty: %d", number);
+    }
+
+    @Benchmark
+    public int require() {
+        Requires.require(() -> number > 0, "number is not positive: %d", number);
+        return number;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    record Item(String name, int quantity) {}
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"0", "10", "50"})
+    private int invalidPercentage;
+
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        items = IntStream.range(0, size)
+            .mapToObj(i -> i % 100 < invalidPercentage ? new Item("", -i) : new Item("item" + i, i))
+            .toList();
+    }
+
+    @Benchmark
+    public Map<Integer, Violations> validateAll() {
+        return Validator.validateAll(items.stream(), (item, validator) -> {
+            validator.requireNonBlank(item.name(), "name is blank");
+            validator.require(() -> item.quantity() >= 0, "quantity %d is negative", item.quantity());
+        });
+    }
+
+    @Benchmark
+    public Map<Integer, String> requiresWithCatch() {
+        // Baseline: one exception per invalid item
+        Map<Integer, String> failures = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            try {
+                Requires.requireNonBlank(item.name(), "name is blank");
+                Requires.require(() -> item.quantity() >= 0, "quantity %d is negative", item.quantity());
+            } catch (IllegalArgumentException e) {
+                failures.put(i, e.getMessage());
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.functional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MemoizingFunctionBenchmark {
+
+    @Param({"100", "10000"})
+    private int distinctKeys;
+
+    private Function<Integer, String> unbounded;
+    private Function<Integer, String> bounded;
+
+    @Setup
+    public void setup() {
+        unbounded = Functions.memoize(MemoizingFunctionBenchmark::expensive);
+        bounded = Functions.memoize(MemoizingFunctionBenchmark::expensive, 1000);
+    }
+
+    @Benchmark
+    public String direct() {
+        return expensive(nextKey());
+    }
+
+    @Benchmark
+    public String memoized() {
+        return unbounded.apply(nextKey());
+    }
+
+    @Benchmark
+    public String memoizedBounded() {
+        return bounded.apply(nextKey());
+    }
+
+    private int nextKey() {
+        return ThreadLocalRandom.current().nextInt(distinctKeys);
+    }
+
+    private static String expensive(Integer key) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            builder.append(Integer.toHexString(key * 31 + i));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.functional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run with '-prof gc' to verify that the null-safe mappings do not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptionalsBenchmark {
+
+    record Person(String name, Address address) {}
+    record Address(String street, City city) {}
+    record City(String name) {}
+
+    @Param({"false", "true"})
+    private boolean missing;
+
+    private Person person;
+
+    @Setup
+    public void setup() {
+        person = new Person("Ola", missing ? null : new Address("Storgata 1", new City("Oslo")));
+    }
+
+    @Benchmark
+    public String mapSafely() {
+        return Optionals.mapSafely(person, Person::address, Address::city, City::name);
+    }
+
+    @Benchmark
+    public String mapSafelyOrElse() {
+        return Optionals.mapSafelyOrElse(person, Person::address, Address::city, City::name, "unknown");
+    }
+
+    @Benchmark
+    public int mapSafelyToInt() {
+        return Optionals.mapSafelyToInt(Optionals.mapSafely(person, Person::address, Address::street), String::length, -1);
+    }
+
+    @Benchmark
+    public String optionalChain() {
+        // Baseline: Optional per step
+        return Optional.ofNullable(person).map(Person::address).map(Address::city).map(City::name).orElse(null);
+    }
+}
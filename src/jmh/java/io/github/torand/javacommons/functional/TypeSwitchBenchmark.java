@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.functional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static io.github.torand.javacommons.functional.Functions.castTo;
+import static io.github.torand.javacommons.functional.Predicates.instanceOf;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeSwitchBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<Object> elements;
+    private TypeSwitch<Object, Long> typeSwitch;
+
+    @Setup
+    public void setup() {
+        Object[] samples = {1, 2L, "three", 4.0, BigDecimal.TEN, 'c'};
+        elements = IntStream.range(0, size).mapToObj(i -> samples[i % samples.length]).toList();
+        typeSwitch = TypeSwitch.<Object, Long>builder()
+            .on(Integer.class, i -> (long) i)
+            .on(Long.class, l -> l)
+            .on(String.class, s -> (long) s.length())
+            .on(Number.class, Number::longValue)
+            .otherwise(o -> 0L)
+            .build();
+    }
+
+    @Benchmark
+    public long typeSwitch() {
+        long sum = 0;
+        for (Object element : elements) {
+            sum += typeSwitch.apply(element);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long instanceOfChain() {
+        // Baseline: one filtered pass per type
+        return elements.stream().filter(instanceOf(Integer.class)).map(castTo(Integer.class)).mapToLong(i -> i).sum()
+            + elements.stream().filter(instanceOf(Long.class)).map(castTo(Long.class)).mapToLong(l -> l).sum()
+            + elements.stream().filter(instanceOf(String.class)).map(castTo(String.class)).mapToLong(String::length).sum()
+            + elements.stream().filter(e -> e instanceof Number && !(e instanceof Integer) && !(e instanceof Long))
+                .map(castTo(Number.class)).mapToLong(Number::longValue).sum();
+    }
+
+    @Benchmark
+    public Map<Class<?>, List<Long>> groupingByHandler() {
+        return elements.stream().collect(typeSwitch.groupingByHandler());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.lang;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringHelperBenchmark {
+
+    @Param({"8", "64", "1024"})
+    private int length;
+
+    private String string;
+    private List<String> strings;
+    private StringBuilder builder;
+
+    @Setup
+    public void setup() {
+        string = "x".repeat(length);
+        strings = Collections.nCopies(100, string);
+        builder = new StringBuilder(200 * length);
+    }
+
+    @Benchmark
+    public String capitalize() {
+        return StringHelper.capitalize(string);
+    }
+
+    @Benchmark
+    public String uncapitalize() {
+        return StringHelper.uncapitalize(string);
+    }
+
+    @Benchmark
+    public String quote() {
+        return StringHelper.quote(string);
+    }
+
+    @Benchmark
+    public List<String> quoteAll() {
+        return StringHelper.quoteAll(strings);
+    }
+
+    @Benchmark
+    public String generate() {
+        return StringHelper.generate(string, 10);
+    }
+
+    @Benchmark
+    public String generateWithDelimiter() {
+        return StringHelper.generate(string, 10, ", ");
+    }
+
+    @Benchmark
+    public String stripHead() {
+        return StringHelper.stripHead(string, 2);
+    }
+
+    @Benchmark
+    public StringBuilder appendCapitalized() {
+        builder.setLength(0);
+        return StringHelper.appendCapitalized(builder, string);
+    }
+
+    @Benchmark
+    public StringBuilder appendQuoted() {
+        builder.setLength(0);
+        return StringHelper.appendQuoted(builder, string);
+    }
+
+    @Benchmark
+    public StringBuilder appendQuotedAll() {
+        builder.setLength(0);
+        return StringHelper.appendQuotedAll(builder, strings, ", ");
+    }
+
+    @Benchmark
+    public StringBuilder appendRepeated() {
+        builder.setLength(0);
+        return StringHelper.appendRepeated(builder, string, 10, ", ");
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.lang;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class StringPoolBenchmark {
+
+    @Param({"16", "4096"})
+    private int distinctValues;
+
+    private char[][] values;
+    private StringPool pool;
+
+    @Setup
+    public void setup() {
+        values = new char[distinctValues][];
+        for (int i = 0; i < distinctValues; i++) {
+            values[i] = ("VALUE-" + i).toCharArray();
+        }
+        pool = new StringPool(8192);
+    }
+
+    @Benchmark
+    public String newString() {
+        char[] value = values[ThreadLocalRandom.current().nextInt(distinctValues)];
+        return new String(value, 0, value.length);
+    }
+
+    @Benchmark
+    public String internCharArray() {
+        char[] value = values[ThreadLocalRandom.current().nextInt(distinctValues)];
+        return pool.intern(value, 0, value.length);
+    }
+
+    @Benchmark
+    public String internString() {
+        char[] value = values[ThreadLocalRandom.current().nextInt(distinctValues)];
+        return String.valueOf(value).intern();
+    }
+}
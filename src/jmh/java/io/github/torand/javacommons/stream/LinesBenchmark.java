@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LinesBenchmark {
+
+    @Param({"1000000"})
+    private int lineCount;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("lines-benchmark", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < lineCount; i++) {
+                writer.write("%d;customer-%d;NOK;%d.%02d;Ærlig og blå%n".formatted(i, i % 1000, i % 10000, i % 100));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long filesLines() throws IOException {
+        try (Stream<String> lines = Files.lines(file)) {
+            return (parallel ? lines.parallel() : lines).mapToInt(String::length).sum();
+        }
+    }
+
+    @Benchmark
+    public long lines() throws IOException {
+        try (Stream<String> lines = StreamHelper.lines(file)) {
+            return (parallel ? lines.parallel() : lines).mapToInt(String::length).sum();
+        }
+    }
+
+    @Benchmark
+    public long linesWithIndex() throws IOException {
+        try (Stream<IndexedValue<String>> lines = StreamHelper.linesWithIndex(file)) {
+            return (parallel ? lines.parallel() : lines).mapToLong(line -> line.value().length() + line.index()).sum();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares mapping elements with a simulated I/O latency concurrently and with a parallel stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapConcurrentBenchmark {
+    private static final long LATENCY_MILLIS = 1;
+
+    @Param({"1", "16", "64"})
+    private int maxConcurrency;
+
+    private List<Integer> ids;
+
+    @Setup
+    public void setup() {
+        ids = IntStream.range(0, 256).boxed().toList();
+    }
+
+    @Benchmark
+    public List<Integer> mapConcurrent() {
+        return StreamHelper.mapConcurrent(ids.stream(), MapConcurrentBenchmark::lookup, maxConcurrency).toList();
+    }
+
+    @Benchmark
+    public List<Integer> mapConcurrentUnordered() {
+        return StreamHelper.mapConcurrentUnordered(ids.stream(), MapConcurrentBenchmark::lookup, maxConcurrency).toList();
+    }
+
+    @Benchmark
+    public List<Integer> parallelStream() {
+        return ids.parallelStream().map(MapConcurrentBenchmark::lookup).toList();
+    }
+
+    private static Integer lookup(Integer id) {
+        try {
+            Thread.sleep(LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return id;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import io.github.torand.javacommons.benchmark.CollectionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamHelperBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    @Param
+    private CollectionType collectionType;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private Collection<Integer> collection;
+    private Integer[] array;
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        collection = collectionType.createCollection(size);
+        array = CollectionType.createArray(size);
+        list = collection instanceof List<Integer> l ? l : Arrays.asList(array);
+    }
+
+    private Stream<Integer> stream() {
+        Stream<Integer> stream = collectionType == CollectionType.ARRAY
+            ? StreamHelper.streamSafely(array)
+            : StreamHelper.streamSafely(collection);
+        return parallel ? stream.parallel() : stream;
+    }
+
+    @Benchmark
+    public long streamSafely() {
+        return stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long withIndex() {
+        return StreamHelper.withIndex(stream()).mapToLong(e -> e.value() + e.index()).sum();
+    }
+
+    @Benchmark
+    public long concatStreams() {
+        return StreamHelper.concatStreams(stream(), stream(), stream()).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public List<Integer> toReversedList() {
+        return stream().collect(StreamHelper.toReversedList());
+    }
+
+    @Benchmark
+    public long streamReversed() {
+        Stream<Integer> stream = StreamHelper.streamReversed(list);
+        return (parallel ? stream.parallel() : stream).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long zip() {
+        return StreamHelper.zip(stream(), stream(), Integer::sum).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public void forEachZipped(Blackhole blackhole) {
+        if (collectionType == CollectionType.ARRAY) {
+            StreamHelper.forEachZipped(array, array, (a, b) -> blackhole.consume(a + b));
+        } else {
+            StreamHelper.forEachZipped(collection, collection, (a, b) -> blackhole.consume(a + b));
+        }
+    }
+
+    @Benchmark
+    public long chunked() {
+        return StreamHelper.chunked(stream(), 100).mapToLong(List::size).sum();
+    }
+
+    @Benchmark
+    public long windowed() {
+        return StreamHelper.windowed(stream(), 10, 5).mapToLong(w -> w.get(0)).sum();
+    }
+
+    @Benchmark
+    public long groupRuns() {
+        return StreamHelper.groupRuns(stream(), e -> e / 10).mapToLong(List::size).sum();
+    }
+
+    @Benchmark
+    public void forEachIndexed(Blackhole blackhole) {
+        if (collectionType == CollectionType.ARRAY) {
+            StreamHelper.forEachIndexed(array, (e, i) -> blackhole.consume(e + i));
+        } else {
+            StreamHelper.forEachIndexed(collection, (e, i) -> blackhole.consume(e + i));
+        }
+    }
+
+    @Benchmark
+    public void forLoop(Blackhole blackhole) {
+        // Baseline for forEachIndexed
+        if (collectionType == CollectionType.ARRAY) {
+            for (int i = 0; i < array.length; i++) {
+                blackhole.consume(array[i] + i);
+            }
+        } else {
+            int i = 0;
+            for (Integer e : collection) {
+                blackhole.consume(e + i++);
+            }
+        }
+    }
+}
@@ -15,13 +15,33 @@
  */
 package io.github.torand.javacommons.collection;
 
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Helper functions for arrays
+ * <p>
+ * The kernels on primitive arrays are written as simple counted loops, partly unrolled with independent accumulators,
+ * which the JIT compiler can eliminate bounds checks from and vectorize. Arrays larger than
+ * {@value #PARALLEL_THRESHOLD} elements are processed in parallel chunks on the common fork/join pool.
  */
 public final class ArrayHelper {
+    /**
+     * The array length from which kernels are executed in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    /**
+     * The length ratio from which sorted arrays are intersected by searching rather than merging.
+     */
+    private static final int GALLOPING_RATIO = 16;
+
     private ArrayHelper() {}
 
     /**
@@ -79,4 +99,677 @@ public final class ArrayHelper {
     public static <T> boolean nonEmpty(T[] array) {
         return nonNull(array) && array.length > 0;
     }
+
+    /**
+     * Returns the sum of the values in the specified 'int' array.
+     * Large arrays are summed in parallel.
+     * @param array the array.
+     * @return the sum of the values, or zero if the array is empty.
+     */
+    public static long sum(int[] array) {
+        requireNonNull(array, "array is null");
+        if (array.length < PARALLEL_THRESHOLD) {
+            return sum(array, 0, array.length);
+        }
+        return parallelChunks(array.length).mapToLong(c -> sum(array, chunkStart(c), chunkEnd(c, array.length))).sum();
+    }
+
+    /**
+     * Returns the smallest value in the specified 'int' array.
+     * Large arrays are searched in parallel.
+     * @param array the array.
+     * @return the smallest value.
+     */
+    public static int min(int[] array) {
+        requireNonNull(array, "array is null");
+        if (array.length == 0) {
+            throw new IllegalArgumentException("array is empty");
+        }
+        if (array.length < PARALLEL_THRESHOLD) {
+            return min(array, 0, array.length);
+        }
+        return parallelChunks(array.length).map(c -> min(array, chunkStart(c), chunkEnd(c, array.length))).min().getAsInt();
+    }
+
+    /**
+     * Returns the largest value in the specified 'int' array.
+     * Large arrays are searched in parallel.
+     * @param array the array.
+     * @return the largest value.
+     */
+    public static int max(int[] array) {
+        requireNonNull(array, "array is null");
+        if (array.length == 0) {
+            throw new IllegalArgumentException("array is empty");
+        }
+        if (array.length < PARALLEL_THRESHOLD) {
+            return max(array, 0, array.length);
+        }
+        return parallelChunks(array.length).map(c -> max(array, chunkStart(c), chunkEnd(c, array.length))).max().getAsInt();
+    }
+
+    /**
+     * Returns whether the specified 'int' array contains a value.
+     * Large arrays are searched in parallel.
+     * @param array the array.
+     * @param value the value to look for.
+     * @return true if the array contains the value; else false.
+     */
+    public static boolean contains(int[] array, int value) {
+        return indexOf(array, value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of a value in the specified 'int' array.
+     * Large arrays are searched in parallel.
+     * @param array the array.
+     * @param value the value to look for.
+     * @return the zero-based index of the value, or -1 if not found.
+     */
+    public static int indexOf(int[] array, int value) {
+        requireNonNull(array, "array is null");
+        if (array.length < PARALLEL_THRESHOLD) {
+            return indexOf(array, value, 0, array.length);
+        }
+        return parallelChunks(array.length)
+            .map(c -> indexOf(array, value, chunkStart(c), chunkEnd(c, array.length)))
+            .filter(index -> index >= 0)
+            .findFirst()
+            .orElse(-1);
+    }
+
+    /**
+     * Returns whether the specified sorted 'int' array contains a value, using binary search.
+     * @param sortedArray the array, sorted in ascending order.
+     * @param value the value to look for.
+     * @return true if the array contains the value; else false.
+     */
+    public static boolean containsSorted(int[] sortedArray, int value) {
+        requireNonNull(sortedArray, "sortedArray is null");
+        return Arrays.binarySearch(sortedArray, value) >= 0;
+    }
+
+    /**
+     * Returns the distinct values contained in both of the specified sorted 'int' arrays.
+     * Arrays of similar length are merged linearly. If one array is much shorter than the other,
+     * each of its values is located in the longer array by exponential and binary search instead.
+     * @param sortedFirst the first array, sorted in ascending order.
+     * @param sortedSecond the second array, sorted in ascending order.
+     * @return the common values, sorted in ascending order.
+     */
+    public static int[] intersectSorted(int[] sortedFirst, int[] sortedSecond) {
+        requireNonNull(sortedFirst, "sortedFirst is null");
+        requireNonNull(sortedSecond, "sortedSecond is null");
+
+        int[] shorter = sortedFirst.length <= sortedSecond.length ? sortedFirst : sortedSecond;
+        int[] longer = shorter == sortedFirst ? sortedSecond : sortedFirst;
+        int[] result = new int[shorter.length];
+        int count = 0;
+
+        if ((long) shorter.length * GALLOPING_RATIO < longer.length) {
+            int from = 0;
+            for (int i = 0; i < shorter.length && from < longer.length; i++) {
+                if (i > 0 && shorter[i] == shorter[i-1]) {
+                    continue;
+                }
+                int index = gallop(longer, from, shorter[i]);
+                if (index >= 0) {
+                    result[count++] = shorter[i];
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < shorter.length && j < longer.length) {
+                if (shorter[i] < longer[j]) {
+                    i++;
+                } else if (shorter[i] > longer[j]) {
+                    j++;
+                } else {
+                    if (count == 0 || result[count-1] != shorter[i]) {
+                        result[count++] = shorter[i];
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Reverses the order of the values in the specified 'int' array, in place.
+     * Large arrays are reversed in parallel.
+     * @param array the array.
+     * @return the same array, reversed.
+     */
+    public static int[] reverse(int[] array) {
+        requireNonNull(array, "array is null");
+        int half = array.length / 2;
+        if (array.length < PARALLEL_THRESHOLD) {
+            reverse(array, 0, half);
+        } else {
+            parallelChunks(half).forEach(c -> reverse(array, chunkStart(c), chunkEnd(c, half)));
+        }
+        return array;
+    }
+
+    /**
+     * Concatenates the specified 'int' arrays into a new array.
+     * @param arrays the arrays.
+     * @return the concatenated array.
+     */
+    public static int[] concat(int[]... arrays) {
+        requireNonNull(arrays, "arrays is null");
+        long length = 0;
+        for (int[] array : arrays) {
+            length += array.length;
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Concatenated array too large: %d".formatted(length));
+        }
+
+        int[] result = new int[(int) length];
+        int offset = 0;
+        for (int[] array : arrays) {
+            System.arraycopy(array, 0, result, offset, array.length);
+            offset += array.length;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the distinct values of the specified 'int' array, in order of first occurrence.
+     * @param array the array.
+     * @return the distinct values.
+     */
+    public static int[] distinct(int[] array) {
+        requireNonNull(array, "array is null");
+        IntHashSet seen = new IntHashSet(array.length);
+        int[] result = new int[array.length];
+        int count = 0;
+        for (int value : array) {
+            if (seen.add(value)) {
+                result[count++] = value;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Counts the values of the specified 'int' array falling into equally wide buckets of a value range.
+     * Values outside the range are ignored. Large arrays are counted in parallel.
+     * @param array the array.
+     * @param lowerBound the lower bound of the range, inclusive.
+     * @param upperBound the upper bound of the range, exclusive.
+     * @param bucketCount the number of buckets.
+     * @return the number of values in each bucket.
+     */
+    public static long[] histogram(int[] array, int lowerBound, int upperBound, int bucketCount) {
+        requireNonNull(array, "array is null");
+        if (lowerBound >= upperBound) {
+            throw new IllegalArgumentException("lowerBound %d is not less than upperBound %d".formatted(lowerBound, upperBound));
+        }
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("bucketCount is not positive: %d".formatted(bucketCount));
+        }
+
+        long range = (long) upperBound - lowerBound;
+        long bucketWidth = range / bucketCount + (range % bucketCount == 0 ? 0 : 1);
+        if (array.length < PARALLEL_THRESHOLD) {
+            return histogram(array, 0, array.length, lowerBound, upperBound, bucketWidth, bucketCount);
+        }
+        return parallelChunks(array.length)
+            .mapToObj(c -> histogram(array, chunkStart(c), chunkEnd(c, array.length), lowerBound, upperBound, bucketWidth, bucketCount))
+            .reduce((first, second) -> {
+                for (int b = 0; b < bucketCount; b++) {
+                    first[b] += second[b];
+                }
+                return first;
+            })
+            .orElseThrow();
+    }
+
+    private static long sum(int[] array, int from, int to) {
+        // Independent accumulators break the dependency chain and let the JIT vectorize the loop
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = from;
+        for (; i < to - 3; i += 4) {
+            s0 += array[i];
+            s1 += array[i+1];
+            s2 += array[i+2];
+            s3 += array[i+3];
+        }
+        for (; i < to; i++) {
+            s0 += array[i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    private static int min(int[] array, int from, int to) {
+        int m0 = array[from];
+        int m1 = m0;
+        int m2 = m0;
+        int m3 = m0;
+        int i = from;
+        for (; i < to - 3; i += 4) {
+            m0 = Math.min(m0, array[i]);
+            m1 = Math.min(m1, array[i+1]);
+            m2 = Math.min(m2, array[i+2]);
+            m3 = Math.min(m3, array[i+3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.min(m0, array[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    private static int max(int[] array, int from, int to) {
+        int m0 = array[from];
+        int m1 = m0;
+        int m2 = m0;
+        int m3 = m0;
+        int i = from;
+        for (; i < to - 3; i += 4) {
+            m0 = Math.max(m0, array[i]);
+            m1 = Math.max(m1, array[i+1]);
+            m2 = Math.max(m2, array[i+2]);
+            m3 = Math.max(m3, array[i+3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.max(m0, array[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    private static int indexOf(int[] array, int value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int gallop(int[] sortedArray, int from, int value) {
+        // Find a range containing the value by doubling the step, then binary search within it
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < sortedArray.length && sortedArray[high] < value) {
+            low = high + 1;
+            high = (int) Math.min((long) high + step, sortedArray.length);
+            step <<= 1;
+        }
+        return Arrays.binarySearch(sortedArray, low, Math.min(high + 1, sortedArray.length), value);
+    }
+
+    private static void reverse(int[] array, int from, int to) {
+        for (int i = from, j = array.length - 1 - from; i < to; i++, j--) {
+            int value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    private static long[] histogram(int[] array, int from, int to, int lowerBound, int upperBound, long bucketWidth, int bucketCount) {
+        long[] counts = new long[bucketCount];
+        for (int i = from; i < to; i++) {
+            int value = array[i];
+            if (value >= lowerBound && value < upperBound) {
+                counts[(int) ((value - (long) lowerBound) / bucketWidth)]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the sum of the values in the specified 'long' array.
+     * Large arrays are summed in parallel.
+     * @param array the array.
+     * @return the sum of the values, or zero if the array is empty.
+     */
+    public static long sum(long[] array) {
+        requireNonNull(array, "array is null");
+        if (array.length < PARALLEL_THRESHOLD) {
+            return sum(array, 0, array.length);
+        }
+        return parallelChunks(array.length).mapToLong(c -> sum(array, chunkStart(c), chunkEnd(c, array.length))).sum();
+    }
+
+    /**
+     * Returns the smallest value in the specified 'long' array.
+     * Large arrays are searched in parallel.
+     * @param array the array.
+     * @return the smallest value.
+     */
+    public static long min(long[] array) {
+        requireNonNull(array, "array is null");
+        if (array.length == 0) {
+            throw new IllegalArgumentException("array is empty");
+        }
+        if (array.length < PARALLEL_THRESHOLD) {
+            return min(array, 0, array.length);
+        }
+        return parallelChunks(array.length).mapToLong(c -> min(array, chunkStart(c), chunkEnd(c, array.length))).min().getAsLong();
+    }
+
+    /**
+     * Returns the largest value in the specified 'long' array.
+     * Large arrays are searched in parallel.
+     * @param array the array.
+     * @return the largest value.
+     */
+    public static long max(long[] array) {
+        requireNonNull(array, "array is null");
+        if (array.length == 0) {
+            throw new IllegalArgumentException("array is empty");
+        }
+        if (array.length < PARALLEL_THRESHOLD) {
+            return max(array, 0, array.length);
+        }
+        return parallelChunks(array.length).mapToLong(c -> max(array, chunkStart(c), chunkEnd(c, array.length))).max().getAsLong();
+    }
+
+    /**
+     * Returns whether the specified 'long' array contains a value.
+     * Large arrays are searched in parallel.
+     * @param array the array.
+     * @param value the value to look for.
+     * @return true if the array contains the value; else false.
+     */
+    public static boolean contains(long[] array, long value) {
+        return indexOf(array, value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of a value in the specified 'long' array.
+     * Large arrays are searched in parallel.
+     * @param array the array.
+     * @param value the value to look for.
+     * @return the zero-based index of the value, or -1 if not found.
+     */
+    public static int indexOf(long[] array, long value) {
+        requireNonNull(array, "array is null");
+        if (array.length < PARALLEL_THRESHOLD) {
+            return indexOf(array, value, 0, array.length);
+        }
+        return parallelChunks(array.length)
+            .map(c -> indexOf(array, value, chunkStart(c), chunkEnd(c, array.length)))
+            .filter(index -> index >= 0)
+            .findFirst()
+            .orElse(-1);
+    }
+
+    /**
+     * Returns whether the specified sorted 'long' array contains a value, using binary search.
+     * @param sortedArray the array, sorted in ascending order.
+     * @param value the value to look for.
+     * @return true if the array contains the value; else false.
+     */
+    public static boolean containsSorted(long[] sortedArray, long value) {
+        requireNonNull(sortedArray, "sortedArray is null");
+        return Arrays.binarySearch(sortedArray, value) >= 0;
+    }
+
+    /**
+     * Returns the distinct values contained in both of the specified sorted 'long' arrays.
+     * Arrays of similar length are merged linearly. If one array is much shorter than the other,
+     * each of its values is located in the longer array by exponential and binary search instead.
+     * @param sortedFirst the first array, sorted in ascending order.
+     * @param sortedSecond the second array, sorted in ascending order.
+     * @return the common values, sorted in ascending order.
+     */
+    public static long[] intersectSorted(long[] sortedFirst, long[] sortedSecond) {
+        requireNonNull(sortedFirst, "sortedFirst is null");
+        requireNonNull(sortedSecond, "sortedSecond is null");
+
+        long[] shorter = sortedFirst.length <= sortedSecond.length ? sortedFirst : sortedSecond;
+        long[] longer = shorter == sortedFirst ? sortedSecond : sortedFirst;
+        long[] result = new long[shorter.length];
+        int count = 0;
+
+        if ((long) shorter.length * GALLOPING_RATIO < longer.length) {
+            int from = 0;
+            for (int i = 0; i < shorter.length && from < longer.length; i++) {
+                if (i > 0 && shorter[i] == shorter[i-1]) {
+                    continue;
+                }
+                int index = gallop(longer, from, shorter[i]);
+                if (index >= 0) {
+                    result[count++] = shorter[i];
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < shorter.length && j < longer.length) {
+                if (shorter[i] < longer[j]) {
+                    i++;
+                } else if (shorter[i] > longer[j]) {
+                    j++;
+                } else {
+                    if (count == 0 || result[count-1] != shorter[i]) {
+                        result[count++] = shorter[i];
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Reverses the order of the values in the specified 'long' array, in place.
+     * Large arrays are reversed in parallel.
+     * @param array the array.
+     * @return the same array, reversed.
+     */
+    public static long[] reverse(long[] array) {
+        requireNonNull(array, "array is null");
+        int half = array.length / 2;
+        if (array.length < PARALLEL_THRESHOLD) {
+            reverse(array, 0, half);
+        } else {
+            parallelChunks(half).forEach(c -> reverse(array, chunkStart(c), chunkEnd(c, half)));
+        }
+        return array;
+    }
+
+    /**
+     * Concatenates the specified 'long' arrays into a new array.
+     * @param arrays the arrays.
+     * @return the concatenated array.
+     */
+    public static long[] concat(long[]... arrays) {
+        requireNonNull(arrays, "arrays is null");
+        long length = 0;
+        for (long[] array : arrays) {
+            length += array.length;
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Concatenated array too large: %d".formatted(length));
+        }
+
+        long[] result = new long[(int) length];
+        int offset = 0;
+        for (long[] array : arrays) {
+            System.arraycopy(array, 0, result, offset, array.length);
+            offset += array.length;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the distinct values of the specified 'long' array, in order of first occurrence.
+     * @param array the array.
+     * @return the distinct values.
+     */
+    public static long[] distinct(long[] array) {
+        requireNonNull(array, "array is null");
+        LongHashSet seen = new LongHashSet(array.length);
+        long[] result = new long[array.length];
+        int count = 0;
+        for (long value : array) {
+            if (seen.add(value)) {
+                result[count++] = value;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Counts the values of the specified 'long' array falling into equally wide buckets of a value range.
+     * Values outside the range are ignored. Large arrays are counted in parallel.
+     * @param array the array.
+     * @param lowerBound the lower bound of the range, inclusive.
+     * @param upperBound the upper bound of the range, exclusive.
+     * @param bucketCount the number of buckets.
+     * @return the number of values in each bucket.
+     */
+    public static long[] histogram(long[] array, long lowerBound, long upperBound, int bucketCount) {
+        requireNonNull(array, "array is null");
+        if (lowerBound >= upperBound) {
+            throw new IllegalArgumentException("lowerBound %d is not less than upperBound %d".formatted(lowerBound, upperBound));
+        }
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("bucketCount is not positive: %d".formatted(bucketCount));
+        }
+
+        // The range and bucket offsets are unsigned, as they exceed Long.MAX_VALUE for bounds of opposite signs
+        long range = upperBound - lowerBound;
+        long bucketWidth = Long.divideUnsigned(range, bucketCount) + (Long.remainderUnsigned(range, bucketCount) == 0 ? 0 : 1);
+        if (array.length < PARALLEL_THRESHOLD) {
+            return histogram(array, 0, array.length, lowerBound, upperBound, bucketWidth, bucketCount);
+        }
+        return parallelChunks(array.length)
+            .mapToObj(c -> histogram(array, chunkStart(c), chunkEnd(c, array.length), lowerBound, upperBound, bucketWidth, bucketCount))
+            .reduce((first, second) -> {
+                for (int b = 0; b < bucketCount; b++) {
+                    first[b] += second[b];
+                }
+                return first;
+            })
+            .orElseThrow();
+    }
+
+    private static long sum(long[] array, int from, int to) {
+        // Independent accumulators break the dependency chain and let the JIT vectorize the loop
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = from;
+        for (; i < to - 3; i += 4) {
+            s0 += array[i];
+            s1 += array[i+1];
+            s2 += array[i+2];
+            s3 += array[i+3];
+        }
+        for (; i < to; i++) {
+            s0 += array[i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    private static long min(long[] array, int from, int to) {
+        long m0 = array[from];
+        long m1 = m0;
+        long m2 = m0;
+        long m3 = m0;
+        int i = from;
+        for (; i < to - 3; i += 4) {
+            m0 = Math.min(m0, array[i]);
+            m1 = Math.min(m1, array[i+1]);
+            m2 = Math.min(m2, array[i+2]);
+            m3 = Math.min(m3, array[i+3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.min(m0, array[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    private static long max(long[] array, int from, int to) {
+        long m0 = array[from];
+        long m1 = m0;
+        long m2 = m0;
+        long m3 = m0;
+        int i = from;
+        for (; i < to - 3; i += 4) {
+            m0 = Math.max(m0, array[i]);
+            m1 = Math.max(m1, array[i+1]);
+            m2 = Math.max(m2, array[i+2]);
+            m3 = Math.max(m3, array[i+3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.max(m0, array[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    private static int indexOf(long[] array, long value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int gallop(long[] sortedArray, int from, long value) {
+        // Find a range containing the value by doubling the step, then binary search within it
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < sortedArray.length && sortedArray[high] < value) {
+            low = high + 1;
+            high = (int) Math.min((long) high + step, sortedArray.length);
+            step <<= 1;
+        }
+        return Arrays.binarySearch(sortedArray, low, Math.min(high + 1, sortedArray.length), value);
+    }
+
+    private static void reverse(long[] array, int from, int to) {
+        for (int i = from, j = array.length - 1 - from; i < to; i++, j--) {
+            long value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    private static long[] histogram(long[] array, int from, int to, long lowerBound, long upperBound, long bucketWidth, int bucketCount) {
+        long[] counts = new long[bucketCount];
+        for (int i = from; i < to; i++) {
+            long value = array[i];
+            if (value >= lowerBound && value < upperBound) {
+                counts[(int) Long.divideUnsigned(value - lowerBound, bucketWidth)]++;
+            }
+        }
+        return counts;
+    }
+
+    private static IntStream parallelChunks(int length) {
+        return IntStream.range(0, (int) (((long) length + CHUNK_SIZE - 1) / CHUNK_SIZE)).parallel();
+    }
+
+    private static int chunkStart(int chunk) {
+        return chunk * CHUNK_SIZE;
+    }
+
+    private static int chunkEnd(int chunk, int length) {
+        return (int) Math.min((long) chunk * CHUNK_SIZE + CHUNK_SIZE, length);
+    }
 }
@@ -16,16 +16,29 @@
 package io.github.torand.javacommons.collection;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractSequentialList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.SortedSet;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
-import static io.github.torand.javacommons.lang.Exceptions.illegalArgumentException;
-import static io.github.torand.javacommons.stream.StreamHelper.concatAndStream;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -35,6 +48,11 @@ import static java.util.Objects.requireNonNull;
  * Helper functions for collections
  */
 public final class CollectionHelper {
+    /**
+     * The number of items up to which a linear scan is faster than building a hash set.
+     */
+    private static final int LINEAR_SCAN_THRESHOLD = 8;
+
     private CollectionHelper() {}
 
     /**
@@ -89,6 +107,15 @@ public final class CollectionHelper {
         return isNull(map) || map.isEmpty();
     }
 
+    /**
+     * Returns whether the specified primitive collection is null or contains no values.
+     * @param collection the primitive collection.
+     * @return true if the collection is null or contains no values; else false.
+     */
+    public static boolean isEmpty(PrimitiveCollection collection) {
+        return isNull(collection) || collection.isEmpty();
+    }
+
     /**
      * Returns whether the specified collection contains at least one element.
      * @param collection the collection.
@@ -107,49 +134,176 @@ public final class CollectionHelper {
         return nonNull(map) && !map.isEmpty();
     }
 
+    /**
+     * Returns whether the specified primitive collection contains at least one value.
+     * @param collection the primitive collection.
+     * @return true if the collection contains at least one value; else false.
+     */
+    public static boolean nonEmpty(PrimitiveCollection collection) {
+        return nonNull(collection) && !collection.isEmpty();
+    }
+
     /**
      * Concatenates the specified iterables into a single list.
+     * Random access lists are included as views, without copying their elements. Other iterables are copied.
      * @param first the first iterable.
      * @param second the second iterable.
-     * @return the list.
+     * @return the unmodifiable list.
      * @param <T> the element type.
      */
     public static <T> List<T> concat(Iterable<T> first, Iterable<T> second) {
-        return concatAndStream(first, second).toList();
+        return ConcatenatedList.of(randomAccessListOf(first), randomAccessListOf(second));
     }
 
     /**
      * Concatenates the elements of the specified iterable and array into a single list.
+     * Random access lists and the array are included as views, without copying their elements. Other iterables are copied.
      * @param first the iterable.
      * @param second the array.
-     * @return the list.
+     * @return the unmodifiable list.
      * @param <T> the element type.
      */
     @SafeVarargs
     public static <T> List<T> concat(Iterable<T> first, T... second) {
-        return Stream.concat(streamSafely(first), streamSafely(second)).toList();
+        return ConcatenatedList.of(randomAccessListOf(first), isNull(second) ? List.of() : Arrays.asList(second));
     }
 
     /**
      * Returns the first element of the specified iterable.
+     * Lists, sorted sets and deques are accessed directly, other iterables through their iterator.
      * @param iterable the iterable.
      * @return the first element of the iterable.
      * @param <T> the element type.
      */
     public static <T> T headOf(Iterable<T> iterable) {
-        return streamSafely(iterable).findFirst()
-            .orElseThrow(illegalArgumentException("iterable is empty"));
+        if (iterable instanceof Collection<T> collection && collection.isEmpty()) {
+            throw emptyIterableException();
+        }
+
+        if (iterable instanceof List<T> list) {
+            return list.get(0);
+        } else if (iterable instanceof SortedSet<T> sortedSet) {
+            return sortedSet.first();
+        } else if (iterable instanceof Deque<T> deque) {
+            return deque.getFirst();
+        }
+
+        Iterator<T> iterator = iteratorOf(iterable);
+        if (!iterator.hasNext()) {
+            throw emptyIterableException();
+        }
+        return iterator.next();
     }
 
     /**
      * Returns the last element of the specified iterable.
+     * Random access lists, deques and sorted sets are accessed directly, other lists backwards through their list iterator
+     * and remaining iterables by traversing their iterator.
      * @param iterable the iterable.
-     * @return the lastelement of the iterable.
+     * @return the last element of the iterable.
      * @param <T> the element type.
      */
     public static <T> T tailOf(Iterable<T> iterable) {
-        return streamSafely(iterable).reduce((first, second) -> second)
-            .orElseThrow(illegalArgumentException("iterable is empty"));
+        if (iterable instanceof Collection<T> collection && collection.isEmpty()) {
+            throw emptyIterableException();
+        }
+
+        if (iterable instanceof List<T> list && list instanceof RandomAccess) {
+            return list.get(list.size()-1);
+        } else if (iterable instanceof Deque<T> deque) {
+            return deque.getLast();
+        } else if (iterable instanceof SortedSet<T> sortedSet) {
+            return sortedSet.last();
+        } else if (iterable instanceof List<T> list) {
+            return list.listIterator(list.size()).previous();
+        }
+
+        Iterator<T> iterator = iteratorOf(iterable);
+        if (!iterator.hasNext()) {
+            throw emptyIterableException();
+        }
+        T last = iterator.next();
+        while (iterator.hasNext()) {
+            last = iterator.next();
+        }
+        return last;
+    }
+
+    /**
+     * Returns the element at the specified position of the specified iterable.
+     * Lists are accessed by index, other iterables through their iterator.
+     * @param iterable the iterable.
+     * @param index the zero-based position of the element.
+     * @return the element at the specified position.
+     * @param <T> the element type.
+     */
+    public static <T> T nthOf(Iterable<T> iterable, int index) {
+        if (index < 0 || (iterable instanceof Collection<T> collection && index >= collection.size())) {
+            throw noSuchIndexException(index);
+        }
+
+        if (iterable instanceof List<T> list) {
+            // For sequential lists, the list iterator starts from the nearest end of the list
+            return list instanceof RandomAccess ? list.get(index) : list.listIterator(index).next();
+        }
+
+        Iterator<T> iterator = iteratorOf(iterable);
+        for (int i = 0; i < index && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        if (!iterator.hasNext()) {
+            throw noSuchIndexException(index);
+        }
+        return iterator.next();
+    }
+
+    /**
+     * Returns the last elements of the specified iterable, in iteration order.
+     * If the iterable contains fewer elements than requested, all elements are returned.
+     * Lists are accessed by index, deques and navigable sets backwards through their descending iterator,
+     * and other iterables by traversing their iterator retaining only the requested number of elements.
+     * If the iterable is null, an empty list is returned.
+     * @param iterable the iterable.
+     * @param count the number of elements to return.
+     * @return the unmodifiable list of the last elements.
+     * @param <T> the element type.
+     */
+    public static <T> List<T> lastN(Iterable<T> iterable, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count is negative: %d".formatted(count));
+        }
+        if (isNull(iterable) || count == 0) {
+            return Collections.emptyList();
+        }
+
+        if (iterable instanceof List<T> list) {
+            int size = list.size();
+            return unmodifiableListOf(list.subList(Math.max(0, size-count), size).toArray());
+        } else if (iterable instanceof Deque<T> deque) {
+            return lastN(deque.descendingIterator(), Math.min(count, deque.size()));
+        } else if (iterable instanceof NavigableSet<T> navigableSet) {
+            return lastN(navigableSet.descendingIterator(), Math.min(count, navigableSet.size()));
+        }
+
+        // Retain the last elements in a circular buffer
+        int capacity = iterable instanceof Collection<T> collection ? Math.min(count, collection.size()) : count;
+        if (capacity == 0) {
+            return Collections.emptyList();
+        }
+        Object[] buffer = new Object[capacity];
+        int total = 0;
+        for (T element : iterable) {
+            buffer[total++ % buffer.length] = element;
+        }
+
+        if (total < buffer.length) {
+            return unmodifiableListOf(Arrays.copyOf(buffer, total));
+        }
+        Object[] elements = new Object[buffer.length];
+        int start = total % buffer.length;
+        System.arraycopy(buffer, start, elements, 0, buffer.length-start);
+        System.arraycopy(buffer, 0, elements, buffer.length-start, start);
+        return unmodifiableListOf(elements);
     }
 
     /**
@@ -166,14 +320,151 @@ public final class CollectionHelper {
 
     /**
      * Tests whether the specified iterable contains one of the specified items.
+     * Sets are probed directly for each item. Other iterables are traversed once, comparing each element with the items
+     * by a linear scan if there are few items, or else by a hash lookup.
      * @param iterable the iterable.
      * @param items the items to look for.
      * @return true if the iterable contains one of the specified items; else false.
      * @param <T> the element type.
      */
+    @SafeVarargs
     public static <T> boolean containsOneOf(Iterable<T> iterable, T... items) {
         requireNonEmpty(items, "No items specified");
-        return containsAny(iterable, currentValue -> Stream.of(items).anyMatch(currentValue::equals));
+        if (isNull(iterable)) {
+            return false;
+        }
+
+        if (iterable instanceof Set<T> set) {
+            for (T item : items) {
+                if (containsSafely(set, item)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        if (items.length <= LINEAR_SCAN_THRESHOLD) {
+            for (T element : iterable) {
+                for (T item : items) {
+                    if (Objects.equals(element, item)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        Set<T> lookup = setOf(Arrays.asList(items), items.length, false);
+        for (T element : iterable) {
+            if (lookup.contains(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests whether the specified iterable contains all of the specified items.
+     * Sets are probed directly for each item. Other iterables are searched linearly for each item if there are few items,
+     * or else traversed once removing each element from a hash set of the items not yet found.
+     * @param iterable the iterable.
+     * @param items the items to look for.
+     * @return true if the iterable contains all of the specified items; else false.
+     * @param <T> the element type.
+     */
+    @SafeVarargs
+    public static <T> boolean containsAllOf(Iterable<T> iterable, T... items) {
+        requireNonEmpty(items, "No items specified");
+        if (isNull(iterable)) {
+            return false;
+        }
+
+        if (iterable instanceof Set<?> || items.length <= LINEAR_SCAN_THRESHOLD) {
+            for (T item : items) {
+                if (!containsSafely(iterable, item)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Set<T> remaining = setOf(Arrays.asList(items), items.length, false);
+        for (T element : iterable) {
+            if (remaining.remove(element) && remaining.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct elements of the first iterable also contained in the second iterable.
+     * The second iterable is probed directly if it is a set or a small collection, or else copied into a hash set.
+     * The returned set iterates in the order of the first iterable, except for enum elements, which are kept in an {@link EnumSet}.
+     * Null iterables are treated as empty.
+     * @param first the first iterable.
+     * @param second the second iterable.
+     * @return the unmodifiable set of common elements.
+     * @param <T> the element type.
+     */
+    public static <T> Set<T> intersect(Iterable<T> first, Iterable<T> second) {
+        if (isNull(first) || isNull(second)) {
+            return Collections.emptySet();
+        }
+
+        Collection<T> lookup = lookupOf(second);
+        SetBuilder<T> result = new SetBuilder<>(sizeOf(first), true);
+        for (T element : first) {
+            if (containsSafely(lookup, element)) {
+                result.add(element);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the distinct elements of the first iterable not contained in the second iterable.
+     * The second iterable is probed directly if it is a set or a small collection, or else copied into a hash set.
+     * The returned set iterates in the order of the first iterable, except for enum elements, which are kept in an {@link EnumSet}.
+     * Null iterables are treated as empty.
+     * @param first the first iterable.
+     * @param second the second iterable.
+     * @return the unmodifiable set of elements only in the first iterable.
+     * @param <T> the element type.
+     */
+    public static <T> Set<T> difference(Iterable<T> first, Iterable<T> second) {
+        if (isNull(first)) {
+            return Collections.emptySet();
+        }
+
+        Collection<T> lookup = isNull(second) ? Collections.emptySet() : lookupOf(second);
+        SetBuilder<T> result = new SetBuilder<>(sizeOf(first), true);
+        for (T element : first) {
+            if (!containsSafely(lookup, element)) {
+                result.add(element);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the distinct elements contained in either of the specified iterables.
+     * The returned set iterates in the order of the first and then the second iterable, except for enum elements,
+     * which are kept in an {@link EnumSet}. Null iterables are treated as empty.
+     * @param first the first iterable.
+     * @param second the second iterable.
+     * @return the unmodifiable set of elements in either iterable.
+     * @param <T> the element type.
+     */
+    public static <T> Set<T> union(Iterable<T> first, Iterable<T> second) {
+        SetBuilder<T> result = new SetBuilder<>(sizeOf(first) + sizeOf(second), true);
+        if (nonNull(first)) {
+            first.forEach(result::add);
+        }
+        if (nonNull(second)) {
+            second.forEach(result::add);
+        }
+        return result.build();
     }
 
     /**
@@ -187,4 +478,264 @@ public final class CollectionHelper {
         Collections.reverse(list);
         return list;
     }
+
+    /**
+     * Returns a view of the specified list with elements in reversed order.
+     * The view reflects later changes to the list, and element updates are written through to the list.
+     * Adding and removing elements through the view is not supported.
+     * @param list the list.
+     * @return the reversed view.
+     * @param <T> the element type.
+     */
+    public static <T> List<T> reversedView(List<T> list) {
+        requireNonNull(list, "list is null");
+        return list instanceof RandomAccess ? new ReversedRandomAccessList<>(list) : new ReversedSequentialList<>(list);
+    }
+
+    /**
+     * Returns a view of the specified deque with elements in reversed order, i.e. from last to first.
+     * The view reflects later changes to the deque, and elements removed through its iterator are removed from the deque.
+     * @param deque the deque.
+     * @return the reversed view.
+     * @param <T> the element type.
+     */
+    public static <T> Collection<T> reversedView(Deque<T> deque) {
+        requireNonNull(deque, "deque is null");
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<T> iterator() {
+                return deque.descendingIterator();
+            }
+
+            @Override
+            public int size() {
+                return deque.size();
+            }
+        };
+    }
+
+    private static <T> List<T> randomAccessListOf(Iterable<T> iterable) {
+        if (isNull(iterable)) {
+            return List.of();
+        } else if (iterable instanceof List<T> list && list instanceof RandomAccess) {
+            return list;
+        } else if (iterable instanceof Collection<T> collection) {
+            return new ArrayList<>(collection);
+        }
+
+        List<T> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list;
+    }
+
+    private static <T> List<T> lastN(Iterator<T> descendingIterator, int count) {
+        Object[] elements = new Object[count];
+        for (int i = count-1; i >= 0; i--) {
+            elements[i] = descendingIterator.next();
+        }
+        return unmodifiableListOf(elements);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> unmodifiableListOf(Object[] elements) {
+        return Collections.unmodifiableList(Arrays.asList((T[]) elements));
+    }
+
+    private static <T> Iterator<T> iteratorOf(Iterable<T> iterable) {
+        return isNull(iterable) ? Collections.emptyIterator() : iterable.iterator();
+    }
+
+    private static IllegalArgumentException emptyIterableException() {
+        return new IllegalArgumentException("iterable is empty");
+    }
+
+    private static IllegalArgumentException noSuchIndexException(int index) {
+        return new IllegalArgumentException("iterable has no element at index %d".formatted(index));
+    }
+
+    private static <T> Collection<T> lookupOf(Iterable<T> iterable) {
+        if (iterable instanceof Set<T> set) {
+            return set;
+        } else if (iterable instanceof Collection<T> collection && collection.size() <= LINEAR_SCAN_THRESHOLD) {
+            return collection;
+        }
+        return setOf(iterable, sizeOf(iterable), false);
+    }
+
+    private static <T> Set<T> setOf(Iterable<T> iterable, int expectedSize, boolean ordered) {
+        SetBuilder<T> builder = new SetBuilder<>(expectedSize, ordered);
+        iterable.forEach(builder::add);
+        return builder.set();
+    }
+
+    private static int sizeOf(Iterable<?> iterable) {
+        return iterable instanceof Collection<?> collection ? collection.size() : LINEAR_SCAN_THRESHOLD;
+    }
+
+    private static boolean containsSafely(Iterable<?> iterable, Object element) {
+        if (iterable instanceof Collection<?> collection) {
+            try {
+                return collection.contains(element);
+            } catch (NullPointerException | ClassCastException e) {
+                // The collection does not permit elements like this, hence does not contain it
+                return false;
+            }
+        }
+
+        for (Object current : iterable) {
+            if (Objects.equals(current, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds a set using an {@link EnumSet} as long as all elements are constants of the same enum type,
+     * and a hash set otherwise.
+     * @param <T> the element type.
+     */
+    private static final class SetBuilder<T> {
+        private final int expectedSize;
+        private final boolean ordered;
+        private Set<T> set;
+        private Class<?> enumClass;
+
+        private SetBuilder(int expectedSize, boolean ordered) {
+            this.expectedSize = expectedSize;
+            this.ordered = ordered;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void add(T element) {
+            if (isNull(set)) {
+                if (element instanceof Enum<?> constant) {
+                    enumClass = constant.getDeclaringClass();
+                    set = EnumSet.noneOf((Class) enumClass);
+                } else {
+                    set = newHashSet(expectedSize);
+                }
+            } else if (nonNull(enumClass) && !(element instanceof Enum<?> constant && constant.getDeclaringClass() == enumClass)) {
+                Set<T> hashSet = newHashSet(Math.max(expectedSize, set.size()+1));
+                hashSet.addAll(set);
+                set = hashSet;
+                enumClass = null;
+            }
+            set.add(element);
+        }
+
+        private Set<T> newHashSet(int expectedSize) {
+            int capacity = (int) Math.min(expectedSize / 0.75 + 1, 1 << 30);
+            return ordered ? new LinkedHashSet<>(capacity) : new HashSet<>(capacity);
+        }
+
+        private Set<T> set() {
+            return isNull(set) ? Collections.emptySet() : set;
+        }
+
+        private Set<T> build() {
+            return Collections.unmodifiableSet(set());
+        }
+    }
+
+    /**
+     * A reversed view of a random access list, mapping each index to its mirror position.
+     * @param <T> the element type.
+     */
+    private static final class ReversedRandomAccessList<T> extends AbstractList<T> implements RandomAccess {
+        private final List<T> list;
+
+        private ReversedRandomAccessList(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(mirrorIndex(index));
+        }
+
+        @Override
+        public T set(int index, T element) {
+            return list.set(mirrorIndex(index), element);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        private int mirrorIndex(int index) {
+            return list.size() - 1 - Objects.checkIndex(index, list.size());
+        }
+    }
+
+    /**
+     * A reversed view of a sequential access list, traversing the list iterator of the list backwards.
+     * @param <T> the element type.
+     */
+    private static final class ReversedSequentialList<T> extends AbstractSequentialList<T> {
+        private final List<T> list;
+
+        private ReversedSequentialList(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public ListIterator<T> listIterator(int index) {
+            int size = list.size();
+            ListIterator<T> iterator = list.listIterator(size - Objects.checkFromToIndex(index, size, size));
+
+            return new ListIterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasPrevious();
+                }
+
+                @Override
+                public T next() {
+                    return iterator.previous();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T previous() {
+                    return iterator.next();
+                }
+
+                @Override
+                public int nextIndex() {
+                    return size - 1 - iterator.previousIndex();
+                }
+
+                @Override
+                public int previousIndex() {
+                    return nextIndex() - 1;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void set(T element) {
+                    iterator.set(element);
+                }
+
+                @Override
+                public void add(T element) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
 }
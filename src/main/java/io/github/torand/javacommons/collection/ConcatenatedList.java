@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import io.github.torand.javacommons.stream.ConcatSpliterator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An unmodifiable view of multiple lists concatenated in sequence, without copying their elements.
+ * <p>
+ * The view reflects later changes to the concatenated lists. Elements are looked up by locating the list containing the
+ * index, so {@link #get(int)} runs in constant time for a fixed number of random access lists.
+ * @param <T> the element type.
+ */
+public final class ConcatenatedList<T> extends AbstractList<T> implements RandomAccess {
+    private final List<? extends T>[] parts;
+
+    private ConcatenatedList(List<? extends T>[] parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * Creates a {@link ConcatenatedList} object viewing the specified lists.
+     * The lists should be random access lists, e.g. {@link ArrayList} or lists returned by {@link Arrays#asList(Object[])}.
+     * Concatenated lists among them are replaced by the lists they view, so repeated concatenation does not nest views.
+     * @param lists the lists.
+     * @return the concatenated view.
+     * @param <T> the element type.
+     */
+    @SafeVarargs
+    public static <T> ConcatenatedList<T> of(List<? extends T>... lists) {
+        requireNonNull(lists, "lists is null");
+        List<List<? extends T>> parts = new ArrayList<>(lists.length);
+        for (List<? extends T> list : lists) {
+            requireNonNull(list, "lists contains null");
+            if (list instanceof ConcatenatedList<? extends T> concatenated) {
+                parts.addAll(Arrays.asList(concatenated.parts));
+            } else {
+                parts.add(list);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<? extends T>[] partArray = parts.toArray(List[]::new);
+        return new ConcatenatedList<>(partArray);
+    }
+
+    @Override
+    public T get(int index) {
+        if (index >= 0) {
+            int offset = index;
+            for (List<? extends T> part : parts) {
+                int partSize = part.size();
+                if (offset < partSize) {
+                    return part.get(offset);
+                }
+                offset -= partSize;
+            }
+        }
+        throw new IndexOutOfBoundsException("Index %d out of bounds for length %d".formatted(index, size()));
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (List<? extends T> part : parts) {
+            size += part.size();
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds all elements of the concatenated lists to the specified collection, one list at a time.
+     * @param target the collection.
+     * @return the collection.
+     * @param <C> the collection type.
+     */
+    public <C extends Collection<? super T>> C copyTo(C target) {
+        requireNonNull(target, "target is null");
+        if (target instanceof ArrayList<?> arrayList) {
+            arrayList.ensureCapacity(arrayList.size() + size());
+        }
+        for (List<? extends T> part : parts) {
+            target.addAll(part);
+        }
+        return target;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        copyInto(array);
+        return array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> E[] toArray(E[] array) {
+        int size = size();
+        E[] target = array.length >= size ? array : (E[]) Arrays.copyOf(array, size, array.getClass());
+        copyInto(target);
+        if (target.length > size) {
+            target[size] = null;
+        }
+        return target;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        requireNonNull(action, "action is null");
+        for (List<? extends T> part : parts) {
+            part.forEach(action);
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        List<Spliterator<? extends T>> spliterators = new ArrayList<>(parts.length);
+        for (List<? extends T> part : parts) {
+            spliterators.add(part.spliterator());
+        }
+        return new ConcatSpliterator<>(spliterators);
+    }
+
+    private void copyInto(Object[] array) {
+        int offset = 0;
+        for (List<? extends T> part : parts) {
+            Object[] elements = part.toArray();
+            System.arraycopy(elements, 0, array, offset, elements.length);
+            offset += elements.length;
+        }
+    }
+}
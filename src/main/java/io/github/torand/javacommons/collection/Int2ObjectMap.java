@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A hash map from 'int' keys to object values, storing the keys in a primitive array without boxing.
+ * <p>
+ * The map uses open addressing with linear probing. The key zero marks free slots in the table and is tracked separately.
+ * Removal shifts subsequent entries backwards, so no tombstones are left behind. Null values are permitted.
+ * @param <V> the value type.
+ */
+public final class Int2ObjectMap<V> implements PrimitiveCollection {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float LOAD_FACTOR = 0.65f;
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+    private static final int MAX_EXPECTED_SIZE = (int) ((MAX_TABLE_SIZE - 1) * (double) LOAD_FACTOR);
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeThreshold;
+    private boolean containsZeroKey;
+    private V zeroKeyValue;
+    private int size;
+
+    /**
+     * Creates an empty {@link Int2ObjectMap} object.
+     */
+    public Int2ObjectMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty {@link Int2ObjectMap} object able to hold the specified number of entries without resizing.
+     * @param expectedSize the expected number of entries.
+     */
+    public Int2ObjectMap(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > MAX_EXPECTED_SIZE) {
+            throw new IllegalArgumentException("expectedSize must be between 0 and %d, was %d".formatted(MAX_EXPECTED_SIZE, expectedSize));
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to the specified key.
+     * @param key the key.
+     * @return the value, or null if the key is not mapped.
+     */
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value mapped to the specified key, or a default value if the key is not mapped.
+     * @param key the key.
+     * @param defaultValue the default value.
+     * @return the value, or the default value if the key is not mapped.
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroKeyValue : defaultValue;
+        }
+        int slot = slotOf(key);
+        return slot >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    /**
+     * Returns whether the specified key is mapped to a value.
+     * @param key the key.
+     * @return true if the key is mapped; else false.
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? containsZeroKey : slotOf(key) >= 0;
+    }
+
+    /**
+     * Maps the specified key to the specified value.
+     * @param key the key.
+     * @param value the value.
+     * @return the previous value mapped to the key, or null if the key was not mapped.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (key == 0) {
+            V previous = zeroKeyValue;
+            zeroKeyValue = value;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+            return previous;
+        }
+
+        int slot = hash(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value mapped to the specified key, computing and mapping it if the key is not mapped.
+     * @param key the key.
+     * @param mappingFunction the function computing the value.
+     * @return the existing or computed value.
+     */
+    public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction, "mappingFunction is null");
+        if (containsKey(key)) {
+            return get(key);
+        }
+        V value = mappingFunction.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Removes the mapping of the specified key.
+     * @param key the key.
+     * @return the value mapped to the key, or null if the key was not mapped.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (key == 0) {
+            V previous = zeroKeyValue;
+            if (containsZeroKey) {
+                containsZeroKey = false;
+                zeroKeyValue = null;
+                size--;
+            }
+            return previous;
+        }
+
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        shiftBackwards(slot);
+        size--;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries from the map, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        containsZeroKey = false;
+        zeroKeyValue = null;
+        size = 0;
+    }
+
+    /**
+     * Returns a primitive iterator over the keys of the map, in no particular order.
+     * @return the iterator.
+     */
+    public PrimitiveIterator.OfInt keyIterator() {
+        return new PrimitiveIterator.OfInt() {
+            private boolean zeroPending = containsZeroKey;
+            private int slot = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return zeroPending || slot < keys.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (zeroPending) {
+                    zeroPending = false;
+                    return 0;
+                }
+                if (slot >= keys.length) {
+                    throw new NoSuchElementException();
+                }
+                int key = keys[slot];
+                slot = nextOccupied(slot + 1);
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Returns a stream of the keys of the map, in no particular order.
+     * The stream is backed by the underlying table and must not be used after the map is modified.
+     * @return the stream.
+     */
+    public IntStream keys() {
+        IntStream tableKeys = Arrays.stream(keys).filter(key -> key != 0);
+        return containsZeroKey ? IntStream.concat(IntStream.of(0), tableKeys) : tableKeys;
+    }
+
+    /**
+     * Returns a stream of the values of the map, in no particular order.
+     * The stream is backed by the underlying table and must not be used after the map is modified.
+     * @return the stream.
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<V> values() {
+        Stream<V> tableValues = IntStream.range(0, keys.length).filter(slot -> keys[slot] != 0).mapToObj(slot -> (V) values[slot]);
+        return containsZeroKey ? Stream.concat(Stream.of(zeroKeyValue), tableValues) : tableValues;
+    }
+
+    /**
+     * Performs an action for each entry of the map, in no particular order.
+     * The action receives the value first and the key second.
+     * @param action the action.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjIntConsumer<? super V> action) {
+        Objects.requireNonNull(action, "action is null");
+        if (containsZeroKey) {
+            action.accept(zeroKeyValue, 0);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                action.accept((V) values[slot], keys[slot]);
+            }
+        }
+    }
+
+    private int slotOf(int key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int nextOccupied(int from) {
+        int slot = from;
+        while (slot < keys.length && keys[slot] == 0) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private void shiftBackwards(int freedSlot) {
+        int free = freedSlot;
+        int slot = (free + 1) & mask;
+        while (keys[slot] != 0) {
+            // Move the entry into the free slot unless its home slot lies cyclically after the free slot
+            int home = hash(keys[slot]) & mask;
+            if (((slot - home) & mask) >= ((slot - free) & mask)) {
+                keys[free] = keys[slot];
+                values[free] = values[slot];
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[free] = 0;
+        values[free] = null;
+    }
+
+    private void rehash(int newTableSize) {
+        if (newTableSize <= 0 || newTableSize > MAX_TABLE_SIZE) {
+            throw new IllegalStateException("Maximum map capacity exceeded");
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newTableSize);
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldKeys[oldSlot] != 0) {
+                int slot = hash(oldKeys[oldSlot]) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[oldSlot];
+                values[slot] = oldValues[oldSlot];
+            }
+        }
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        values = new Object[tableSize];
+        mask = tableSize - 1;
+        resizeThreshold = (int) (tableSize * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long minTableSize = Math.min((long) Math.ceil(Math.max(expectedSize, 2) / (double) LOAD_FACTOR) + 1, MAX_TABLE_SIZE);
+        return Integer.highestOneBit((int) minTableSize - 1) << 1;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Int2ObjectMap<?> other) || other.size != size || other.containsZeroKey != containsZeroKey) {
+            return false;
+        }
+        if (containsZeroKey && !Objects.equals(zeroKeyValue, other.zeroKeyValue)) {
+            return false;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                int otherSlot = other.slotOf(keys[slot]);
+                if (otherSlot < 0 || !Objects.equals(values[slot], other.values[otherSlot])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = containsZeroKey ? Objects.hashCode(zeroKeyValue) : 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                hash += Integer.hashCode(keys[slot]) ^ Objects.hashCode(values[slot]);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder(2 + size * 8).append('{');
+        forEach((value, key) -> {
+            if (b.length() > 1) {
+                b.append(", ");
+            }
+            b.append(key).append('=').append(value);
+        });
+        return b.append('}').toString();
+    }
+}
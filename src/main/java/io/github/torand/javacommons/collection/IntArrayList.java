@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A resizable list of 'int' values, storing the values in a primitive array without boxing.
+ */
+public final class IntArrayList implements PrimitiveCollection {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int[] EMPTY = {};
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Creates an empty {@link IntArrayList} object.
+     */
+    public IntArrayList() {
+        this.elements = EMPTY;
+    }
+
+    /**
+     * Creates an empty {@link IntArrayList} object with the specified initial capacity.
+     * @param initialCapacity the initial capacity.
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity is negative: %d".formatted(initialCapacity));
+        }
+        this.elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    /**
+     * Creates a {@link IntArrayList} object containing the specified values.
+     * @param values the values.
+     * @return the list.
+     */
+    public static IntArrayList of(int... values) {
+        IntArrayList list = new IntArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * Appends the specified value to the end of the list.
+     * @param value the value.
+     */
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Appends the specified values to the end of the list.
+     * @param values the values.
+     */
+    public void addAll(int... values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Appends the values of the specified list to the end of this list.
+     * @param other the other list.
+     */
+    public void addAll(IntArrayList other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+    }
+
+    /**
+     * Returns the value at the specified position.
+     * @param index the zero-based position.
+     * @return the value.
+     */
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the value at the specified position.
+     * @param index the zero-based position.
+     * @param value the new value.
+     * @return the previous value.
+     */
+    public int set(int index, int value) {
+        Objects.checkIndex(index, size);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Removes the value at the specified position, shifting subsequent values to the left.
+     * @param index the zero-based position.
+     * @return the removed value.
+     */
+    public int removeAt(int index) {
+        Objects.checkIndex(index, size);
+        int removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns whether the list contains the specified value.
+     * @param value the value.
+     * @return true if the list contains the value; else false.
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the position of the first occurrence of the specified value.
+     * @param value the value.
+     * @return the zero-based position of the value, or -1 if not found.
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values from the list, keeping its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the values of the list in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Increases the capacity of the list, if necessary, to hold at least the specified number of values.
+     * @param minCapacity the minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Reduces the capacity of the list to its current size.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Returns an array containing the values of the list.
+     * @return the array.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a primitive iterator over the values of the list.
+     * @return the iterator.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements[index++];
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream of the values of the list.
+     * The stream is backed by the underlying array and must not be used after the list is modified.
+     * @return the stream.
+     */
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Performs an action for each value of the list.
+     * @param action the action.
+     */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required list capacity too large: " + minCapacity);
+        }
+        int newCapacity = (int) Math.min(Math.max((long) elements.length + (elements.length >> 1), Math.max(minCapacity, DEFAULT_CAPACITY)), MAX_CAPACITY);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntArrayList other)) {
+            return false;
+        }
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Integer.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder(2 + size * 4).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                b.append(", ");
+            }
+            b.append(elements[i]);
+        }
+        return b.append(']').toString();
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A hash set of 'int' values, storing the values in a primitive array without boxing.
+ * <p>
+ * The set uses open addressing with linear probing. The value zero marks free slots in the table and is tracked separately.
+ * Removal shifts subsequent entries backwards, so no tombstones are left behind.
+ */
+public final class IntHashSet implements PrimitiveCollection {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float LOAD_FACTOR = 0.65f;
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+    private static final int MAX_EXPECTED_SIZE = (int) ((MAX_TABLE_SIZE - 1) * (double) LOAD_FACTOR);
+
+    private int[] table;
+    private int mask;
+    private int resizeThreshold;
+    private boolean containsZero;
+    private int size;
+
+    /**
+     * Creates an empty {@link IntHashSet} object.
+     */
+    public IntHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty {@link IntHashSet} object able to hold the specified number of values without resizing.
+     * @param expectedSize the expected number of values.
+     */
+    public IntHashSet(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > MAX_EXPECTED_SIZE) {
+            throw new IllegalArgumentException("expectedSize must be between 0 and %d, was %d".formatted(MAX_EXPECTED_SIZE, expectedSize));
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Creates a {@link IntHashSet} object containing the specified values.
+     * @param values the values.
+     * @return the set.
+     */
+    public static IntHashSet of(int... values) {
+        IntHashSet set = new IntHashSet(values.length);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Adds the specified value to the set.
+     * @param value the value.
+     * @return true if the value was added; false if already present.
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int slot = hash(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        table[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the specified value from the set.
+     * @param value the value.
+     * @return true if the value was removed; false if not present.
+     */
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int slot = hash(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                shiftBackwards(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the set contains the specified value.
+     * @param value the value.
+     * @return true if the set contains the value; else false.
+     */
+    public boolean contains(int value) {
+        if (value == 0) {
+            return containsZero;
+        }
+
+        int slot = hash(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values from the set, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Returns an array containing the values of the set, in no particular order.
+     * @return the array.
+     */
+    public int[] toArray() {
+        int[] values = new int[size];
+        int i = 0;
+        if (containsZero) {
+            values[i++] = 0;
+        }
+        for (int value : table) {
+            if (value != 0) {
+                values[i++] = value;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns a primitive iterator over the values of the set, in no particular order.
+     * @return the iterator.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private boolean zeroPending = containsZero;
+            private int slot = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return zeroPending || slot < table.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (zeroPending) {
+                    zeroPending = false;
+                    return 0;
+                }
+                if (slot >= table.length) {
+                    throw new NoSuchElementException();
+                }
+                int value = table[slot];
+                slot = nextOccupied(slot + 1);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns a stream of the values of the set, in no particular order.
+     * The stream is backed by the underlying table and must not be used after the set is modified.
+     * @return the stream.
+     */
+    public IntStream stream() {
+        IntStream values = Arrays.stream(table).filter(value -> value != 0);
+        return containsZero ? IntStream.concat(IntStream.of(0), values) : values;
+    }
+
+    /**
+     * Performs an action for each value of the set, in no particular order.
+     * @param action the action.
+     */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (int value : table) {
+            if (value != 0) {
+                action.accept(value);
+            }
+        }
+    }
+
+    private int nextOccupied(int from) {
+        int slot = from;
+        while (slot < table.length && table[slot] == 0) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private void shiftBackwards(int freedSlot) {
+        int free = freedSlot;
+        int slot = (free + 1) & mask;
+        while (table[slot] != 0) {
+            // Move the entry into the free slot unless its home slot lies cyclically after the free slot
+            int home = hash(table[slot]) & mask;
+            if (((slot - home) & mask) >= ((slot - free) & mask)) {
+                table[free] = table[slot];
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[free] = 0;
+    }
+
+    private void rehash(int newTableSize) {
+        if (newTableSize <= 0 || newTableSize > MAX_TABLE_SIZE) {
+            throw new IllegalStateException("Maximum set capacity exceeded");
+        }
+        int[] oldTable = table;
+        allocate(newTableSize);
+        for (int value : oldTable) {
+            if (value != 0) {
+                int slot = hash(value) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int tableSize) {
+        table = new int[tableSize];
+        mask = tableSize - 1;
+        resizeThreshold = (int) (tableSize * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long minTableSize = Math.min((long) Math.ceil(Math.max(expectedSize, 2) / (double) LOAD_FACTOR) + 1, MAX_TABLE_SIZE);
+        return Integer.highestOneBit((int) minTableSize - 1) << 1;
+    }
+
+    private static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntHashSet other) || other.size != size || other.containsZero != containsZero) {
+            return false;
+        }
+        for (int value : table) {
+            if (value != 0 && !other.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int value : table) {
+            hash += Integer.hashCode(value);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder(2 + size * 4).append('[');
+        forEach(value -> {
+            if (b.length() > 1) {
+                b.append(", ");
+            }
+            b.append(value);
+        });
+        return b.append(']').toString();
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A hash set of 'long' values, storing the values in a primitive array without boxing.
+ * <p>
+ * The set uses open addressing with linear probing. The value zero marks free slots in the table and is tracked separately.
+ * Removal shifts subsequent entries backwards, so no tombstones are left behind.
+ */
+public final class LongHashSet implements PrimitiveCollection {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float LOAD_FACTOR = 0.65f;
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+    private static final int MAX_EXPECTED_SIZE = (int) ((MAX_TABLE_SIZE - 1) * (double) LOAD_FACTOR);
+
+    private long[] table;
+    private int mask;
+    private int resizeThreshold;
+    private boolean containsZero;
+    private int size;
+
+    /**
+     * Creates an empty {@link LongHashSet} object.
+     */
+    public LongHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty {@link LongHashSet} object able to hold the specified number of values without resizing.
+     * @param expectedSize the expected number of values.
+     */
+    public LongHashSet(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > MAX_EXPECTED_SIZE) {
+            throw new IllegalArgumentException("expectedSize must be between 0 and %d, was %d".formatted(MAX_EXPECTED_SIZE, expectedSize));
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Creates a {@link LongHashSet} object containing the specified values.
+     * @param values the values.
+     * @return the set.
+     */
+    public static LongHashSet of(long... values) {
+        LongHashSet set = new LongHashSet(values.length);
+        for (long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Adds the specified value to the set.
+     * @param value the value.
+     * @return true if the value was added; false if already present.
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int slot = hash(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        table[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the specified value from the set.
+     * @param value the value.
+     * @return true if the value was removed; false if not present.
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int slot = hash(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                shiftBackwards(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the set contains the specified value.
+     * @param value the value.
+     * @return true if the set contains the value; else false.
+     */
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+
+        int slot = hash(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values from the set, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Returns an array containing the values of the set, in no particular order.
+     * @return the array.
+     */
+    public long[] toArray() {
+        long[] values = new long[size];
+        int i = 0;
+        if (containsZero) {
+            values[i++] = 0;
+        }
+        for (long value : table) {
+            if (value != 0) {
+                values[i++] = value;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns a primitive iterator over the values of the set, in no particular order.
+     * @return the iterator.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private boolean zeroPending = containsZero;
+            private int slot = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return zeroPending || slot < table.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (zeroPending) {
+                    zeroPending = false;
+                    return 0;
+                }
+                if (slot >= table.length) {
+                    throw new NoSuchElementException();
+                }
+                long value = table[slot];
+                slot = nextOccupied(slot + 1);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns a stream of the values of the set, in no particular order.
+     * The stream is backed by the underlying table and must not be used after the set is modified.
+     * @return the stream.
+     */
+    public LongStream stream() {
+        LongStream values = Arrays.stream(table).filter(value -> value != 0);
+        return containsZero ? LongStream.concat(LongStream.of(0), values) : values;
+    }
+
+    /**
+     * Performs an action for each value of the set, in no particular order.
+     * @param action the action.
+     */
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (long value : table) {
+            if (value != 0) {
+                action.accept(value);
+            }
+        }
+    }
+
+    private int nextOccupied(int from) {
+        int slot = from;
+        while (slot < table.length && table[slot] == 0) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private void shiftBackwards(int freedSlot) {
+        int free = freedSlot;
+        int slot = (free + 1) & mask;
+        while (table[slot] != 0) {
+            // Move the entry into the free slot unless its home slot lies cyclically after the free slot
+            int home = hash(table[slot]) & mask;
+            if (((slot - home) & mask) >= ((slot - free) & mask)) {
+                table[free] = table[slot];
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[free] = 0;
+    }
+
+    private void rehash(int newTableSize) {
+        if (newTableSize <= 0 || newTableSize > MAX_TABLE_SIZE) {
+            throw new IllegalStateException("Maximum set capacity exceeded");
+        }
+        long[] oldTable = table;
+        allocate(newTableSize);
+        for (long value : oldTable) {
+            if (value != 0) {
+                int slot = hash(value) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int tableSize) {
+        table = new long[tableSize];
+        mask = tableSize - 1;
+        resizeThreshold = (int) (tableSize * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long minTableSize = Math.min((long) Math.ceil(Math.max(expectedSize, 2) / (double) LOAD_FACTOR) + 1, MAX_TABLE_SIZE);
+        return Integer.highestOneBit((int) minTableSize - 1) << 1;
+    }
+
+    private static int hash(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongHashSet other) || other.size != size || other.containsZero != containsZero) {
+            return false;
+        }
+        for (long value : table) {
+            if (value != 0 && !other.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (long value : table) {
+            hash += Long.hashCode(value);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder(2 + size * 4).append('[');
+        forEach(value -> {
+            if (b.length() > 1) {
+                b.append(", ");
+            }
+            b.append(value);
+        });
+        return b.append(']').toString();
+    }
+}
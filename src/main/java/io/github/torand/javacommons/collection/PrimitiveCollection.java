@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+/**
+ * Defines the common operations of collections storing primitive values without boxing.
+ */
+public interface PrimitiveCollection {
+
+    /**
+     * Returns the number of values in the collection.
+     * @return the number of values.
+     */
+    int size();
+
+    /**
+     * Returns whether the collection contains no values.
+     * @return true if the collection contains no values; else false.
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+}
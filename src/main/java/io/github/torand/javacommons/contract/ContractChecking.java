@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Controls whether contract checks are performed, much like the {@code -ea} option controls assertions.
+ * <p>
+ * Checking is configured per category, named hierarchically like packages. A category without a setting of its own
+ * inherits the setting of its nearest configured ancestor, ending at the root category with the empty name, which is
+ * enabled by default.
+ * <p>
+ * The checks of {@link Requires} follow the root category only, so disabling it turns them all into no-ops, whichever
+ * package they are called from; settings of named categories do not affect them. Named categories are for application
+ * code guarding its own checks, e.g. {@code if (ORDER_CHECKS.isEnabled()) { ... }}.
+ * <p>
+ * Initial settings are read from the system properties {@value #PROPERTY} for the root category and
+ * {@value #PROPERTY}.&lt;category&gt; for named categories, e.g. {@code -Djavacommons.contracts.com.acme.orders=false}.
+ * Settings can be changed at runtime. The setting of the root category is held in a {@link MutableCallSite}, which the
+ * JIT compiler treats as a constant: disabled checks are removed from compiled code, and changing the setting makes the
+ * dependent code recompile. Reading the setting of a named category costs a single memory load.
+ */
+public final class ContractChecking {
+
+    /**
+     * The name of the system property enabling or disabling checking of the root category.
+     */
+    public static final String PROPERTY = "javacommons.contracts";
+
+    private static final String ROOT_NAME = "";
+
+    private static final Map<String, Boolean> SETTINGS = new HashMap<>();
+    private static final Map<String, Category> CATEGORIES = new HashMap<>();
+
+    private static final MutableCallSite ROOT_SITE;
+    private static final MethodHandle ROOT_ENABLED;
+
+    static {
+        loadSettings(System.getProperties());
+        ROOT_SITE = new MutableCallSite(MethodHandles.constant(boolean.class, category(ROOT_NAME).isEnabled()));
+        ROOT_ENABLED = ROOT_SITE.dynamicInvoker();
+    }
+
+    private ContractChecking() {}
+
+    /**
+     * Returns whether checking of the root category is enabled.
+     * @return true if checking is enabled; else false.
+     */
+    public static boolean isEnabled() {
+        try {
+            return (boolean) ROOT_ENABLED.invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unexpected failure reading contract checking setting", t);
+        }
+    }
+
+    /**
+     * Returns whether checking of the specified category is enabled.
+     * @param category the category name.
+     * @return true if checking is enabled; else false.
+     */
+    public static boolean isEnabled(String category) {
+        return category(category).isEnabled();
+    }
+
+    /**
+     * Enables or disables checking of the root category, and of all categories inheriting its setting.
+     * @param enabled true to enable checking; false to disable.
+     */
+    public static void setEnabled(boolean enabled) {
+        setEnabled(ROOT_NAME, enabled);
+    }
+
+    /**
+     * Enables or disables checking of the specified category, and of all its subcategories inheriting its setting.
+     * @param category the category name.
+     * @param enabled true to enable checking; false to disable.
+     */
+    public static synchronized void setEnabled(String category, boolean enabled) {
+        SETTINGS.put(normalize(category), enabled);
+        refresh();
+    }
+
+    /**
+     * Removes the setting of the specified category, making it inherit the setting of its nearest configured ancestor.
+     * The root category reverts to enabled.
+     * @param category the category name.
+     */
+    public static synchronized void reset(String category) {
+        SETTINGS.remove(normalize(category));
+        refresh();
+    }
+
+    /**
+     * Returns the named category.
+     * @param name the category name, e.g. a package name.
+     * @return the category.
+     */
+    public static synchronized Category category(String name) {
+        return CATEGORIES.computeIfAbsent(normalize(name), n -> new Category(n, resolve(n)));
+    }
+
+    /**
+     * Returns the category named by the package of the specified class.
+     * @param type the class.
+     * @return the category.
+     */
+    public static Category category(Class<?> type) {
+        return category(type.getPackageName());
+    }
+
+    static synchronized void loadSettings(Properties properties) {
+        properties.stringPropertyNames().forEach(key -> {
+            if (key.equals(PROPERTY)) {
+                SETTINGS.put(ROOT_NAME, Boolean.parseBoolean(properties.getProperty(key).trim()));
+            } else if (key.startsWith(PROPERTY + ".")) {
+                SETTINGS.put(normalize(key.substring(PROPERTY.length() + 1)), Boolean.parseBoolean(properties.getProperty(key).trim()));
+            }
+        });
+        refresh();
+    }
+
+    private static void refresh() {
+        CATEGORIES.values().forEach(category -> {
+            boolean enabled = resolve(category.name);
+            if (category.update(enabled) && category.name.equals(ROOT_NAME) && !isNull(ROOT_SITE)) {
+                ROOT_SITE.setTarget(MethodHandles.constant(boolean.class, enabled));
+                MutableCallSite.syncAll(new MutableCallSite[] {ROOT_SITE});
+            }
+        });
+    }
+
+    private static boolean resolve(String name) {
+        String current = name;
+        while (true) {
+            Boolean setting = SETTINGS.get(current);
+            if (!isNull(setting)) {
+                return setting;
+            }
+            if (current.isEmpty()) {
+                return true;
+            }
+            int lastDot = current.lastIndexOf('.');
+            current = lastDot < 0 ? ROOT_NAME : current.substring(0, lastDot);
+        }
+    }
+
+    private static String normalize(String name) {
+        requireNonNull(name, "name is null");
+        return name.trim();
+    }
+
+    /**
+     * A named category of contract checks.
+     */
+    public static final class Category {
+        private final String name;
+        private volatile boolean current;
+
+        private Category(String name, boolean enabled) {
+            this.name = name;
+            this.current = enabled;
+        }
+
+        /**
+         * Returns the name of the category.
+         * @return the category name.
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Returns whether checking of the category is enabled.
+         * @return true if checking is enabled; else false.
+         */
+        public boolean isEnabled() {
+            return current;
+        }
+
+        private boolean update(boolean enabled) {
+            if (enabled == current) {
+                return false;
+            }
+            current = enabled;
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "Category[%s, enabled=%s]".formatted(name, current);
+        }
+    }
+}
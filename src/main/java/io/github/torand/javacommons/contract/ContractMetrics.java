@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Counts the contract violations detected by {@link Requires}, per message template and per call site.
+ * <p>
+ * Metrics are disabled by default, and are enabled at runtime or with the system property {@value #PROPERTY}.
+ * Violations are recorded on the failure path of the checks only, so checks that pass are not affected.
+ * The counters are {@link LongAdder} objects, free of contention between threads failing concurrently.
+ * The number of distinct templates and call sites counted is bounded; further ones are counted under {@value #OTHER}.
+ * <p>
+ * The counters are available as a {@link Snapshot}, and through JMX once {@link #registerMBean()} is called.
+ * A {@link ViolationListener} may be notified of a sample of the violations.
+ */
+public final class ContractMetrics {
+
+    /**
+     * The name of the system property enabling metrics.
+     */
+    public static final String PROPERTY = "javacommons.contract.metrics";
+
+    /**
+     * The JMX object name of the metrics MBean.
+     */
+    public static final String OBJECT_NAME = "io.github.torand.javacommons:type=ContractMetrics";
+
+    /**
+     * The key counting violations of templates or call sites beyond the maximum number of keys.
+     */
+    public static final String OTHER = "<other>";
+
+    static final int MAX_KEYS = 1024;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static final LongAdder TOTAL = new LongAdder();
+    private static final Map<String, LongAdder> BY_TEMPLATE = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> BY_CALL_SITE = new ConcurrentHashMap<>();
+    private static final AtomicLong SAMPLE_COUNTER = new AtomicLong();
+
+    private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+    private static volatile Sampler sampler;
+
+    private ContractMetrics() {}
+
+    /**
+     * Returns whether metrics are enabled.
+     * @return true if metrics are enabled; else false.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables metrics.
+     * @param enabled true to enable metrics; false to disable.
+     */
+    public static void setEnabled(boolean enabled) {
+        ContractMetrics.enabled = enabled;
+    }
+
+    /**
+     * Sets the listener to notify of every violation recorded.
+     * @param listener the listener.
+     */
+    public static void setListener(ViolationListener listener) {
+        setListener(listener, 1);
+    }
+
+    /**
+     * Sets the listener to notify of every n'th violation recorded.
+     * @param listener the listener.
+     * @param sampleInterval the number of violations per notification.
+     */
+    public static void setListener(ViolationListener listener, int sampleInterval) {
+        requireNonNull(listener, "listener is null");
+        if (sampleInterval <= 0) {
+            throw new IllegalArgumentException("sampleInterval must be positive, but was %d".formatted(sampleInterval));
+        }
+        SAMPLE_COUNTER.set(0);
+        sampler = new Sampler(listener, sampleInterval);
+    }
+
+    /**
+     * Removes the listener, if any.
+     */
+    public static void removeListener() {
+        sampler = null;
+    }
+
+    /**
+     * Returns a snapshot of the violation counters.
+     * @return the snapshot.
+     */
+    public static Snapshot snapshot() {
+        return new Snapshot(TOTAL.sum(), countsOf(BY_TEMPLATE), countsOf(BY_CALL_SITE));
+    }
+
+    /**
+     * Resets all violation counters.
+     */
+    public static void reset() {
+        TOTAL.reset();
+        BY_TEMPLATE.clear();
+        BY_CALL_SITE.clear();
+    }
+
+    /**
+     * Registers the metrics MBean with the platform MBean server, named {@value #OBJECT_NAME}, unless already registered.
+     * @return the object name of the MBean.
+     */
+    public static synchronized ObjectName registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MBean(), name);
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register MBean " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Unregisters the metrics MBean from the platform MBean server, if registered.
+     */
+    public static synchronized void unregisterMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister MBean " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Records a violation, if metrics are enabled. Called on the failure path of the checks only.
+     * @param template the message template, or null to use the exception message.
+     * @param exception the exception about to be thrown.
+     * @return the exception.
+     * @param <E> the exception type.
+     */
+    static <E extends RuntimeException> E record(String template, E exception) {
+        if (!enabled) {
+            return exception;
+        }
+
+        String templateKey = isNull(template) ? String.valueOf(exception.getMessage()) : template;
+        String callSite = callSite();
+
+        TOTAL.increment();
+        increment(BY_TEMPLATE, templateKey);
+        increment(BY_CALL_SITE, callSite);
+
+        Sampler currentSampler = sampler;
+        if (!isNull(currentSampler) && SAMPLE_COUNTER.getAndIncrement() % currentSampler.interval() == 0) {
+            try {
+                currentSampler.listener().onViolation(templateKey, callSite, exception);
+            } catch (RuntimeException e) {
+                exception.addSuppressed(e);
+            }
+        }
+
+        return exception;
+    }
+
+    private static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+            .filter(f -> !f.getClassName().equals(ContractMetrics.class.getName()) && !f.getClassName().equals(Requires.class.getName()))
+            .findFirst()
+            .map(f -> "%s.%s:%d".formatted(f.getClassName(), f.getMethodName(), f.getLineNumber()))
+            .orElse(OTHER));
+    }
+
+    private static void increment(Map<String, LongAdder> counters, String key) {
+        LongAdder counter = counters.get(key);
+        if (isNull(counter)) {
+            counter = counters.size() < MAX_KEYS
+                ? counters.computeIfAbsent(key, k -> new LongAdder())
+                : counters.computeIfAbsent(OTHER, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static Map<String, Long> countsOf(Map<String, LongAdder> counters) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counters.entrySet().stream()
+            .map(e -> Map.entry(e.getKey(), e.getValue().sum()))
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .forEach(e -> counts.put(e.getKey(), e.getValue()));
+        return counts;
+    }
+
+    /**
+     * A snapshot of the violation counters.
+     * @param violations the total number of violations.
+     * @param byTemplate the number of violations per message template, in descending order.
+     * @param byCallSite the number of violations per call site, in descending order.
+     */
+    public record Snapshot(long violations, Map<String, Long> byTemplate, Map<String, Long> byCallSite) {
+
+        /**
+         * Creates a {@link Snapshot} object.
+         * @param violations the total number of violations.
+         * @param byTemplate the number of violations per message template.
+         * @param byCallSite the number of violations per call site.
+         */
+        public Snapshot {
+            byTemplate = Collections.unmodifiableMap(new LinkedHashMap<>(byTemplate));
+            byCallSite = Collections.unmodifiableMap(new LinkedHashMap<>(byCallSite));
+        }
+    }
+
+    /**
+     * A listener notified of contract violations.
+     */
+    @FunctionalInterface
+    public interface ViolationListener {
+
+        /**
+         * Notifies of a contract violation. Invoked on the thread detecting the violation, before the exception is thrown.
+         * Exceptions thrown by the listener are added as suppressed exceptions of the violation exception.
+         * @param template the message template, or the message if supplied by a message supplier.
+         * @param callSite the call site, as 'class.method:line'.
+         * @param exception the exception about to be thrown.
+         */
+        void onViolation(String template, String callSite, RuntimeException exception);
+    }
+
+    private record Sampler(ViolationListener listener, int interval) {
+    }
+
+    private static final class MBean implements ContractMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ContractMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            ContractMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public long getViolations() {
+            return TOTAL.sum();
+        }
+
+        @Override
+        public Map<String, Long> getViolationsByTemplate() {
+            return countsOf(BY_TEMPLATE);
+        }
+
+        @Override
+        public Map<String, Long> getViolationsByCallSite() {
+            return countsOf(BY_CALL_SITE);
+        }
+
+        @Override
+        public void reset() {
+            ContractMetrics.reset();
+        }
+    }
+}
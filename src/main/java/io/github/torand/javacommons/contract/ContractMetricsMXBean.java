@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import java.util.Map;
+
+/**
+ * The JMX management interface of {@link ContractMetrics}.
+ */
+public interface ContractMetricsMXBean {
+
+    /**
+     * Returns whether metrics are enabled.
+     * @return true if metrics are enabled; else false.
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables metrics.
+     * @param enabled true to enable metrics; false to disable.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the total number of violations.
+     * @return the number of violations.
+     */
+    long getViolations();
+
+    /**
+     * Returns the number of violations per message template.
+     * @return the number of violations per message template.
+     */
+    Map<String, Long> getViolationsByTemplate();
+
+    /**
+     * Returns the number of violations per call site.
+     * @return the number of violations per call site.
+     */
+    Map<String, Long> getViolationsByCallSite();
+
+    /**
+     * Resets all violation counters.
+     */
+    void reset();
+}
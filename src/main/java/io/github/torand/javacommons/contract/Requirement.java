@@ -15,6 +15,8 @@
  */
 package io.github.torand.javacommons.contract;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Defines a requirement to be fulfilled in a {@link Requires} statement.
  */
@@ -26,4 +28,34 @@ public interface Requirement {
      * @return true if requirement is fulfilled; else false.
      */
     boolean test();
+
+    /**
+     * Returns a requirement fulfilled if both this and the specified requirement are fulfilled.
+     * The other requirement is not tested if this requirement is not fulfilled.
+     * @param other the other requirement.
+     * @return the composed requirement.
+     */
+    default Requirement and(Requirement other) {
+        requireNonNull(other, "other is null");
+        return () -> test() && other.test();
+    }
+
+    /**
+     * Returns a requirement fulfilled if this or the specified requirement is fulfilled.
+     * The other requirement is not tested if this requirement is fulfilled.
+     * @param other the other requirement.
+     * @return the composed requirement.
+     */
+    default Requirement or(Requirement other) {
+        requireNonNull(other, "other is null");
+        return () -> test() || other.test();
+    }
+
+    /**
+     * Returns a requirement fulfilled if this requirement is not fulfilled.
+     * @return the negated requirement.
+     */
+    default Requirement negate() {
+        return () -> !test();
+    }
 }
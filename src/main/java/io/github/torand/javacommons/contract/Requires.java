@@ -17,16 +17,32 @@ package io.github.torand.javacommons.contract;
 
 import io.github.torand.javacommons.collection.ArrayHelper;
 import io.github.torand.javacommons.collection.CollectionHelper;
+import io.github.torand.javacommons.collection.PrimitiveCollection;
+import io.github.torand.javacommons.lang.MessageTemplate;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Supplier;
 
-import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
-import static java.util.Objects.nonNull;
-import static java.util.Objects.requireNonNull;
+import static io.github.torand.javacommons.contract.ContractChecking.isEnabled;
+import static io.github.torand.javacommons.lang.StringHelper.isBlank;
+import static java.util.Objects.isNull;
 
 /**
  * Provides factory methods to test the state of variables.
+ * <p>
+ * The checks are designed for the passing path to be as cheap as a hand-written {@code if} statement:
+ * exception messages are formatted only when a check fails.
+ * Besides the varargs variant, each check has variants with no to three message parameters, which avoid the varargs
+ * array allocated by the compiler at the call site, variants with a single 'int', 'long' or 'char' parameter, which is
+ * boxed only when the check fails, and a variant taking a {@link Supplier} of the message.
+ * A {@code null} literal message, as in {@code require(requirement, null)}, is ambiguous between the {@code String}
+ * and {@code Supplier} variants and must be cast to {@code String}.
+ * <p>
+ * The checks are performed only when checking of the root category of {@link ContractChecking} is enabled; settings of
+ * named categories do not apply to them, whichever package they are called from.
+ * When disabled, the checks pass without evaluating the requirement or inspecting the value.
+ * Failed checks are counted by {@link ContractMetrics}, if enabled.
  */
 public final class Requires {
 
@@ -41,66 +57,789 @@ public final class Requires {
      * @return the array if not null or empty.
      */
     public static int[] requireNonEmpty(int[] array, String msg, Object... args) {
-        requireNonNull(array, String.format(msg, args));
-        require(() -> ArrayHelper.nonEmpty(array), msg, args);
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, args));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(int[], String, Object...)}, with no message parameters.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @return the array if not null or empty.
+     */
+    public static int[] requireNonEmpty(int[] array, String msg) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(int[], String, Object...)}, with one message parameter.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static int[] requireNonEmpty(int[] array, String msg, Object arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, formatSingle(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(int[], String, Object...)}, with two message parameters.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static int[] requireNonEmpty(int[] array, String msg, Object arg1, Object arg2) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1, arg2));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(int[], String, Object...)}, with three message parameters.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @param arg3 the third exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static int[] requireNonEmpty(int[] array, String msg, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1, arg2, arg3));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(int[], String, Object...)}, with one 'int' message parameter, boxed only if the check fails.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static int[] requireNonEmpty(int[] array, String msg, int arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(int[], String, Object...)}, with one 'long' message parameter, boxed only if the check fails.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static int[] requireNonEmpty(int[] array, String msg, long arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(int[], String, Object...)}, with one 'char' message parameter, boxed only if the check fails.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static int[] requireNonEmpty(int[] array, String msg, char arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(int[], String, Object...)}, with the exception message supplied only if the check fails.
+     * @param array the array to check.
+     * @param msgSupplier the supplier of the exception message, invoked only if the check fails.
+     * @return the array if not null or empty.
+     */
+    public static int[] requireNonEmpty(int[] array, Supplier<String> msgSupplier) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, null, msgSupplier.get());
+        }
+        return array;
+    }
+
+    /**
+     * Checks that the specified 'long' array is not null and contains at least one element.
+     * Throws a customized NullPointerException or IllegalArgumentException if it is.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param args the exception message parameters.
+     * @return the array if not null or empty.
+     */
+    public static long[] requireNonEmpty(long[] array, String msg, Object... args) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, args));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(long[], String, Object...)}, with no message parameters.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @return the array if not null or empty.
+     */
+    public static long[] requireNonEmpty(long[] array, String msg) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(long[], String, Object...)}, with one message parameter.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static long[] requireNonEmpty(long[] array, String msg, Object arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, formatSingle(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(long[], String, Object...)}, with two message parameters.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static long[] requireNonEmpty(long[] array, String msg, Object arg1, Object arg2) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1, arg2));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(long[], String, Object...)}, with three message parameters.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @param arg3 the third exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static long[] requireNonEmpty(long[] array, String msg, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1, arg2, arg3));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(long[], String, Object...)}, with one 'int' message parameter, boxed only if the check fails.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static long[] requireNonEmpty(long[] array, String msg, int arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(long[], String, Object...)}, with one 'long' message parameter, boxed only if the check fails.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static long[] requireNonEmpty(long[] array, String msg, long arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(long[], String, Object...)}, with one 'char' message parameter, boxed only if the check fails.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     */
+    public static long[] requireNonEmpty(long[] array, String msg, char arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(long[], String, Object...)}, with the exception message supplied only if the check fails.
+     * @param array the array to check.
+     * @param msgSupplier the supplier of the exception message, invoked only if the check fails.
+     * @return the array if not null or empty.
+     */
+    public static long[] requireNonEmpty(long[] array, Supplier<String> msgSupplier) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, null, msgSupplier.get());
+        }
+        return array;
+    }
+
+    /**
+     * Checks that the specified object array is not null and contains at least one element.
+     * Throws a customized NullPointerException or IllegalArgumentException if it is.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param args the exception message parameters.
+     * @return the array if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> T[] requireNonEmpty(T[] array, String msg, Object... args) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, args));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Object[], String, Object...)}, with no message parameters.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @return the array if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> T[] requireNonEmpty(T[] array, String msg) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Object[], String, Object...)}, with one message parameter.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> T[] requireNonEmpty(T[] array, String msg, Object arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, formatSingle(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Object[], String, Object...)}, with two message parameters.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @return the array if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> T[] requireNonEmpty(T[] array, String msg, Object arg1, Object arg2) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1, arg2));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Object[], String, Object...)}, with three message parameters.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @param arg3 the third exception message parameter.
+     * @return the array if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> T[] requireNonEmpty(T[] array, String msg, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1, arg2, arg3));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Object[], String, Object...)}, with one 'int' message parameter, boxed only if the check fails.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> T[] requireNonEmpty(T[] array, String msg, int arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Object[], String, Object...)}, with one 'long' message parameter, boxed only if the check fails.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> T[] requireNonEmpty(T[] array, String msg, long arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1));
+        }
         return array;
     }
 
     /**
-     * Checks that the specified 'long' array is not null and contains at least one element.
-     * Throws a customized NullPointerException or IllegalArgumentException if it is.
-     * @param array the array to check.
+     * Same as {@link #requireNonEmpty(Object[], String, Object...)}, with one 'char' message parameter, boxed only if the check fails.
+     * @param array the array to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the array if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> T[] requireNonEmpty(T[] array, String msg, char arg1) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, msg, format(msg, arg1));
+        }
+        return array;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Object[], String, Object...)}, with the exception message supplied only if the check fails.
+     * @param array the array to check.
+     * @param msgSupplier the supplier of the exception message, invoked only if the check fails.
+     * @return the array if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> T[] requireNonEmpty(T[] array, Supplier<String> msgSupplier) {
+        if (isEnabled() && ArrayHelper.isEmpty(array)) {
+            throw emptinessViolation(array, null, msgSupplier.get());
+        }
+        return array;
+    }
+
+    /**
+     * Checks that the specified object collection is not null and contains at least one element.
+     * Throws a customized NullPointerException or IllegalArgumentException if it is.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param args the exception message parameters.
+     * @return the collection if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T extends Collection<?>> T requireNonEmpty(T collection, String msg, Object... args) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, args));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Collection, String, Object...)}, with no message parameters.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @return the collection if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T extends Collection<?>> T requireNonEmpty(T collection, String msg) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Collection, String, Object...)}, with one message parameter.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T extends Collection<?>> T requireNonEmpty(T collection, String msg, Object arg1) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, formatSingle(msg, arg1));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Collection, String, Object...)}, with two message parameters.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T extends Collection<?>> T requireNonEmpty(T collection, String msg, Object arg1, Object arg2) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, arg1, arg2));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Collection, String, Object...)}, with three message parameters.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @param arg3 the third exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T extends Collection<?>> T requireNonEmpty(T collection, String msg, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, arg1, arg2, arg3));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Collection, String, Object...)}, with one 'int' message parameter, boxed only if the check fails.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T extends Collection<?>> T requireNonEmpty(T collection, String msg, int arg1) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, arg1));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Collection, String, Object...)}, with one 'long' message parameter, boxed only if the check fails.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T extends Collection<?>> T requireNonEmpty(T collection, String msg, long arg1) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, arg1));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Collection, String, Object...)}, with one 'char' message parameter, boxed only if the check fails.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T extends Collection<?>> T requireNonEmpty(T collection, String msg, char arg1) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, arg1));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Collection, String, Object...)}, with the exception message supplied only if the check fails.
+     * @param collection the collection to check.
+     * @param msgSupplier the supplier of the exception message, invoked only if the check fails.
+     * @return the collection if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T extends Collection<?>> T requireNonEmpty(T collection, Supplier<String> msgSupplier) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, null, msgSupplier.get());
+        }
+        return collection;
+    }
+
+    /**
+     * Checks that the specified primitive collection is not null and contains at least one value.
+     * Throws a customized NullPointerException or IllegalArgumentException if it is.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param args the exception message parameters.
+     * @return the collection if not null or empty.
+     * @param <T> the collection type.
+     */
+    public static <T extends PrimitiveCollection> T requireNonEmpty(T collection, String msg, Object... args) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, args));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(PrimitiveCollection, String, Object...)}, with no message parameters.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @return the collection if not null or empty.
+     * @param <T> the collection type.
+     */
+    public static <T extends PrimitiveCollection> T requireNonEmpty(T collection, String msg) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(PrimitiveCollection, String, Object...)}, with one message parameter.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the collection type.
+     */
+    public static <T extends PrimitiveCollection> T requireNonEmpty(T collection, String msg, Object arg1) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, formatSingle(msg, arg1));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(PrimitiveCollection, String, Object...)}, with two message parameters.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the collection type.
+     */
+    public static <T extends PrimitiveCollection> T requireNonEmpty(T collection, String msg, Object arg1, Object arg2) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, arg1, arg2));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(PrimitiveCollection, String, Object...)}, with three message parameters.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @param arg3 the third exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the collection type.
+     */
+    public static <T extends PrimitiveCollection> T requireNonEmpty(T collection, String msg, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, arg1, arg2, arg3));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(PrimitiveCollection, String, Object...)}, with one 'int' message parameter, boxed only if the check fails.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the collection type.
+     */
+    public static <T extends PrimitiveCollection> T requireNonEmpty(T collection, String msg, int arg1) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, arg1));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(PrimitiveCollection, String, Object...)}, with one 'long' message parameter, boxed only if the check fails.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the collection type.
+     */
+    public static <T extends PrimitiveCollection> T requireNonEmpty(T collection, String msg, long arg1) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, arg1));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(PrimitiveCollection, String, Object...)}, with one 'char' message parameter, boxed only if the check fails.
+     * @param collection the collection to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the collection if not null or empty.
+     * @param <T> the collection type.
+     */
+    public static <T extends PrimitiveCollection> T requireNonEmpty(T collection, String msg, char arg1) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, msg, format(msg, arg1));
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(PrimitiveCollection, String, Object...)}, with the exception message supplied only if the check fails.
+     * @param collection the collection to check.
+     * @param msgSupplier the supplier of the exception message, invoked only if the check fails.
+     * @return the collection if not null or empty.
+     * @param <T> the collection type.
+     */
+    public static <T extends PrimitiveCollection> T requireNonEmpty(T collection, Supplier<String> msgSupplier) {
+        if (isEnabled() && CollectionHelper.isEmpty(collection)) {
+            throw emptinessViolation(collection, null, msgSupplier.get());
+        }
+        return collection;
+    }
+
+    /**
+     * Checks that the specified string is not null and contains at least one character.
+     * Throws a customized NullPointerException or IllegalArgumentException if it is.
+     * @param string the string to check.
+     * @param msg the exception message.
+     * @param args the exception message parameters.
+     * @return the string if not null or blank.
+     */
+    public static String requireNonBlank(String string, String msg, Object... args) {
+        if (isEnabled() && isBlank(string)) {
+            throw emptinessViolation(string, msg, format(msg, args));
+        }
+        return string;
+    }
+
+    /**
+     * Same as {@link #requireNonBlank(String, String, Object...)}, with no message parameters.
+     * @param string the string to check.
+     * @param msg the exception message.
+     * @return the string if not null or blank.
+     */
+    public static String requireNonBlank(String string, String msg) {
+        if (isEnabled() && isBlank(string)) {
+            throw emptinessViolation(string, msg, format(msg));
+        }
+        return string;
+    }
+
+    /**
+     * Same as {@link #requireNonBlank(String, String, Object...)}, with one message parameter.
+     * @param string the string to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the string if not null or blank.
+     */
+    public static String requireNonBlank(String string, String msg, Object arg1) {
+        if (isEnabled() && isBlank(string)) {
+            throw emptinessViolation(string, msg, formatSingle(msg, arg1));
+        }
+        return string;
+    }
+
+    /**
+     * Same as {@link #requireNonBlank(String, String, Object...)}, with two message parameters.
+     * @param string the string to check.
      * @param msg the exception message.
-     * @param args the exception message parameters.
-     * @return the array if not null or empty.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @return the string if not null or blank.
      */
-    public static long[] requireNonEmpty(long[] array, String msg, Object... args) {
-        requireNonNull(array, String.format(msg, args));
-        require(() -> ArrayHelper.nonEmpty(array), msg, args);
-        return array;
+    public static String requireNonBlank(String string, String msg, Object arg1, Object arg2) {
+        if (isEnabled() && isBlank(string)) {
+            throw emptinessViolation(string, msg, format(msg, arg1, arg2));
+        }
+        return string;
     }
 
     /**
-     * Checks that the specified object array is not null and contains at least one element.
-     * Throws a customized NullPointerException or IllegalArgumentException if it is.
-     * @param array the array to check.
+     * Same as {@link #requireNonBlank(String, String, Object...)}, with three message parameters.
+     * @param string the string to check.
      * @param msg the exception message.
-     * @param args the exception message parameters.
-     * @return the array if not null or empty.
-     * @param <T> the object type.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @param arg3 the third exception message parameter.
+     * @return the string if not null or blank.
      */
-    public static <T> T[] requireNonEmpty(T[] array, String msg, Object... args) {
-        requireNonNull(array, String.format(msg, args));
-        require(() -> ArrayHelper.nonEmpty(array), msg, args);
-        return array;
+    public static String requireNonBlank(String string, String msg, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled() && isBlank(string)) {
+            throw emptinessViolation(string, msg, format(msg, arg1, arg2, arg3));
+        }
+        return string;
     }
 
     /**
-     * Checks that the specified object collection is not null and contains at least one element.
-     * Throws a customized NullPointerException or IllegalArgumentException if it is.
-     * @param collection the collection to check.
+     * Same as {@link #requireNonBlank(String, String, Object...)}, with one 'int' message parameter, boxed only if the check fails.
+     * @param string the string to check.
      * @param msg the exception message.
-     * @param args the exception message parameters.
-     * @return the collection if not null or empty.
-     * @param <T> the object type.
+     * @param arg1 the exception message parameter.
+     * @return the string if not null or blank.
      */
-    public static <T extends Collection<?>> T requireNonEmpty(T collection, String msg, Object... args) {
-        requireNonNull(collection, String.format(msg, args));
-        require(() -> CollectionHelper.nonEmpty(collection), msg, args);
-        return collection;
+    public static String requireNonBlank(String string, String msg, int arg1) {
+        if (isEnabled() && isBlank(string)) {
+            throw emptinessViolation(string, msg, format(msg, arg1));
+        }
+        return string;
     }
 
     /**
-     * Checks that the specified string is not null and contains at least one character.
-     * Throws a customized NullPointerException or IllegalArgumentException if it is.
+     * Same as {@link #requireNonBlank(String, String, Object...)}, with one 'long' message parameter, boxed only if the check fails.
      * @param string the string to check.
      * @param msg the exception message.
-     * @param args the exception message parameters.
+     * @param arg1 the exception message parameter.
      * @return the string if not null or blank.
      */
-    public static String requireNonBlank(String string, String msg, Object... args) {
-        requireNonNull(string, String.format(msg, args));
-        require(() -> nonBlank(string), msg, args);
+    public static String requireNonBlank(String string, String msg, long arg1) {
+        if (isEnabled() && isBlank(string)) {
+            throw emptinessViolation(string, msg, format(msg, arg1));
+        }
+        return string;
+    }
+
+    /**
+     * Same as {@link #requireNonBlank(String, String, Object...)}, with one 'char' message parameter, boxed only if the check fails.
+     * @param string the string to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the string if not null or blank.
+     */
+    public static String requireNonBlank(String string, String msg, char arg1) {
+        if (isEnabled() && isBlank(string)) {
+            throw emptinessViolation(string, msg, format(msg, arg1));
+        }
+        return string;
+    }
+
+    /**
+     * Same as {@link #requireNonBlank(String, String, Object...)}, with the exception message supplied only if the check fails.
+     * @param string the string to check.
+     * @param msgSupplier the supplier of the exception message, invoked only if the check fails.
+     * @return the string if not null or blank.
+     */
+    public static String requireNonBlank(String string, Supplier<String> msgSupplier) {
+        if (isEnabled() && isBlank(string)) {
+            throw emptinessViolation(string, null, msgSupplier.get());
+        }
         return string;
     }
 
@@ -114,7 +853,130 @@ public final class Requires {
      * @param <T> the object type.
      */
     public static <T> Optional<T> requireNonEmpty(Optional<T> optional, String msg, Object... args) {
-        require(() -> nonNull(optional) && optional.isPresent(), msg, args);
+        if (isEnabled() && (isNull(optional) || optional.isEmpty())) {
+            throw violation(msg, new IllegalArgumentException(format(msg, args)));
+        }
+        return optional;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Optional, String, Object...)}, with no message parameters.
+     * @param optional the optional to check.
+     * @param msg the exception message.
+     * @return the optional if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> Optional<T> requireNonEmpty(Optional<T> optional, String msg) {
+        if (isEnabled() && (isNull(optional) || optional.isEmpty())) {
+            throw violation(msg, new IllegalArgumentException(format(msg)));
+        }
+        return optional;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Optional, String, Object...)}, with one message parameter.
+     * @param optional the optional to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the optional if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> Optional<T> requireNonEmpty(Optional<T> optional, String msg, Object arg1) {
+        if (isEnabled() && (isNull(optional) || optional.isEmpty())) {
+            throw violation(msg, new IllegalArgumentException(formatSingle(msg, arg1)));
+        }
+        return optional;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Optional, String, Object...)}, with two message parameters.
+     * @param optional the optional to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @return the optional if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> Optional<T> requireNonEmpty(Optional<T> optional, String msg, Object arg1, Object arg2) {
+        if (isEnabled() && (isNull(optional) || optional.isEmpty())) {
+            throw violation(msg, new IllegalArgumentException(format(msg, arg1, arg2)));
+        }
+        return optional;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Optional, String, Object...)}, with three message parameters.
+     * @param optional the optional to check.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @param arg3 the third exception message parameter.
+     * @return the optional if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> Optional<T> requireNonEmpty(Optional<T> optional, String msg, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled() && (isNull(optional) || optional.isEmpty())) {
+            throw violation(msg, new IllegalArgumentException(format(msg, arg1, arg2, arg3)));
+        }
+        return optional;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Optional, String, Object...)}, with one 'int' message parameter, boxed only if the check fails.
+     * @param optional the optional to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the optional if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> Optional<T> requireNonEmpty(Optional<T> optional, String msg, int arg1) {
+        if (isEnabled() && (isNull(optional) || optional.isEmpty())) {
+            throw violation(msg, new IllegalArgumentException(format(msg, arg1)));
+        }
+        return optional;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Optional, String, Object...)}, with one 'long' message parameter, boxed only if the check fails.
+     * @param optional the optional to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the optional if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> Optional<T> requireNonEmpty(Optional<T> optional, String msg, long arg1) {
+        if (isEnabled() && (isNull(optional) || optional.isEmpty())) {
+            throw violation(msg, new IllegalArgumentException(format(msg, arg1)));
+        }
+        return optional;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Optional, String, Object...)}, with one 'char' message parameter, boxed only if the check fails.
+     * @param optional the optional to check.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     * @return the optional if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> Optional<T> requireNonEmpty(Optional<T> optional, String msg, char arg1) {
+        if (isEnabled() && (isNull(optional) || optional.isEmpty())) {
+            throw violation(msg, new IllegalArgumentException(format(msg, arg1)));
+        }
+        return optional;
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(Optional, String, Object...)}, with the exception message supplied only if the check fails.
+     * @param optional the optional to check.
+     * @param msgSupplier the supplier of the exception message, invoked only if the check fails.
+     * @return the optional if not null or empty.
+     * @param <T> the object type.
+     */
+    public static <T> Optional<T> requireNonEmpty(Optional<T> optional, Supplier<String> msgSupplier) {
+        if (isEnabled() && (isNull(optional) || optional.isEmpty())) {
+            throw violation(null, new IllegalArgumentException(msgSupplier.get()));
+        }
         return optional;
     }
 
@@ -126,8 +988,105 @@ public final class Requires {
      * @param args the exception message parameters.
      */
     public static void require(Requirement requirement, String msg, Object... args) {
-        if (!requirement.test()) {
-            throw new IllegalArgumentException(String.format(msg, args));
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalArgumentException(format(msg, args)));
+        }
+    }
+
+    /**
+     * Same as {@link #require(Requirement, String, Object...)}, with no message parameters.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     */
+    public static void require(Requirement requirement, String msg) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalArgumentException(format(msg)));
+        }
+    }
+
+    /**
+     * Same as {@link #require(Requirement, String, Object...)}, with one message parameter.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     */
+    public static void require(Requirement requirement, String msg, Object arg1) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalArgumentException(formatSingle(msg, arg1)));
+        }
+    }
+
+    /**
+     * Same as {@link #require(Requirement, String, Object...)}, with two message parameters.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     */
+    public static void require(Requirement requirement, String msg, Object arg1, Object arg2) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalArgumentException(format(msg, arg1, arg2)));
+        }
+    }
+
+    /**
+     * Same as {@link #require(Requirement, String, Object...)}, with three message parameters.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @param arg3 the third exception message parameter.
+     */
+    public static void require(Requirement requirement, String msg, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalArgumentException(format(msg, arg1, arg2, arg3)));
+        }
+    }
+
+    /**
+     * Same as {@link #require(Requirement, String, Object...)}, with one 'int' message parameter, boxed only if the check fails.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     */
+    public static void require(Requirement requirement, String msg, int arg1) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalArgumentException(format(msg, arg1)));
+        }
+    }
+
+    /**
+     * Same as {@link #require(Requirement, String, Object...)}, with one 'long' message parameter, boxed only if the check fails.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     */
+    public static void require(Requirement requirement, String msg, long arg1) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalArgumentException(format(msg, arg1)));
+        }
+    }
+
+    /**
+     * Same as {@link #require(Requirement, String, Object...)}, with one 'char' message parameter, boxed only if the check fails.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     */
+    public static void require(Requirement requirement, String msg, char arg1) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalArgumentException(format(msg, arg1)));
+        }
+    }
+
+    /**
+     * Same as {@link #require(Requirement, String, Object...)}, with the exception message supplied only if the check fails.
+     * @param requirement the requirement.
+     * @param msgSupplier the supplier of the exception message, invoked only if the check fails.
+     */
+    public static void require(Requirement requirement, Supplier<String> msgSupplier) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(null, new IllegalArgumentException(msgSupplier.get()));
         }
     }
 
@@ -139,8 +1098,122 @@ public final class Requires {
      * @param args the exception message parameters.
      */
     public static void precondition(Requirement requirement, String msg, Object... args) {
-        if (!requirement.test()) {
-            throw new IllegalStateException(String.format(msg, args));
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalStateException(format(msg, args)));
+        }
+    }
+
+    /**
+     * Same as {@link #precondition(Requirement, String, Object...)}, with no message parameters.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     */
+    public static void precondition(Requirement requirement, String msg) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalStateException(format(msg)));
+        }
+    }
+
+    /**
+     * Same as {@link #precondition(Requirement, String, Object...)}, with one message parameter.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     */
+    public static void precondition(Requirement requirement, String msg, Object arg1) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalStateException(formatSingle(msg, arg1)));
+        }
+    }
+
+    /**
+     * Same as {@link #precondition(Requirement, String, Object...)}, with two message parameters.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     */
+    public static void precondition(Requirement requirement, String msg, Object arg1, Object arg2) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalStateException(format(msg, arg1, arg2)));
+        }
+    }
+
+    /**
+     * Same as {@link #precondition(Requirement, String, Object...)}, with three message parameters.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the first exception message parameter.
+     * @param arg2 the second exception message parameter.
+     * @param arg3 the third exception message parameter.
+     */
+    public static void precondition(Requirement requirement, String msg, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalStateException(format(msg, arg1, arg2, arg3)));
+        }
+    }
+
+    /**
+     * Same as {@link #precondition(Requirement, String, Object...)}, with one 'int' message parameter, boxed only if the check fails.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     */
+    public static void precondition(Requirement requirement, String msg, int arg1) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalStateException(format(msg, arg1)));
+        }
+    }
+
+    /**
+     * Same as {@link #precondition(Requirement, String, Object...)}, with one 'long' message parameter, boxed only if the check fails.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     */
+    public static void precondition(Requirement requirement, String msg, long arg1) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalStateException(format(msg, arg1)));
+        }
+    }
+
+    /**
+     * Same as {@link #precondition(Requirement, String, Object...)}, with one 'char' message parameter, boxed only if the check fails.
+     * @param requirement the requirement.
+     * @param msg the exception message.
+     * @param arg1 the exception message parameter.
+     */
+    public static void precondition(Requirement requirement, String msg, char arg1) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(msg, new IllegalStateException(format(msg, arg1)));
+        }
+    }
+
+    /**
+     * Same as {@link #precondition(Requirement, String, Object...)}, with the exception message supplied only if the check fails.
+     * @param requirement the requirement.
+     * @param msgSupplier the supplier of the exception message, invoked only if the check fails.
+     */
+    public static void precondition(Requirement requirement, Supplier<String> msgSupplier) {
+        if (isEnabled() && !requirement.test()) {
+            throw violation(null, new IllegalStateException(msgSupplier.get()));
         }
     }
+
+    private static RuntimeException emptinessViolation(Object value, String template, String message) {
+        return violation(template, isNull(value) ? new NullPointerException(message) : new IllegalArgumentException(message));
+    }
+
+    private static <E extends RuntimeException> E violation(String template, E exception) {
+        return ContractMetrics.record(template, exception);
+    }
+
+    private static String formatSingle(String msg, Object arg) {
+        // Mirror the varargs variant, which receives an object array argument as the parameter array itself
+        return arg instanceof Object[] args ? format(msg, args) : format(msg, arg);
+    }
+
+    private static String format(String msg, Object... args) {
+        return MessageTemplate.format(msg, args);
+    }
 }
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import io.github.torand.javacommons.collection.CollectionHelper;
+import io.github.torand.javacommons.lang.StringHelper;
+import io.github.torand.javacommons.stream.IndexedValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.github.torand.javacommons.lang.StringHelper.isBlank;
+import static io.github.torand.javacommons.stream.StreamHelper.withIndex;
+import static java.util.Objects.isNull;
+
+/**
+ * Accumulates failed checks as {@link Violations}, instead of throwing an exception on the first failure like {@link Requires}.
+ * <p>
+ * Messages are formatted only when read, and passing checks allocate nothing when the variants with up to two message
+ * parameters are used. The parameters of failed checks are copied, so reusing a parameter array does not change
+ * recorded violations. A message without parameters is used verbatim. Unlike {@link Requires}, checks are always performed, regardless of {@link ContractChecking}.
+ * A validator is not thread-safe; use one validator per record, as {@link #validateAll(Stream, BiConsumer)} does.
+ */
+public final class Validator {
+    private List<Violation> violations;
+
+    /**
+     * Creates a {@link Validator} object with no violations.
+     */
+    public Validator() {
+        // Violation list is created on first failure
+    }
+
+    /**
+     * Validates each element of the specified stream, with a new validator per element.
+     * The elements are validated in parallel if the stream is parallel and its size and the sizes of its splits are known,
+     * as for streams of collections and arrays without filtering; otherwise they are validated sequentially, as element
+     * indexes are then only known in encounter order.
+     * @param elements the elements to validate.
+     * @param validation the validation of an element, recording violations in the specified validator.
+     * @return the violations of the invalid elements, by zero-based element index, in ascending index order.
+     * @param <T> the element type.
+     */
+    public static <T> Map<Integer, Violations> validateAll(Stream<T> elements, BiConsumer<? super T, Validator> validation) {
+        Objects.requireNonNull(elements, "elements is null");
+        Objects.requireNonNull(validation, "validation is null");
+        return withIndex(elements)
+            .map(indexed -> validate(indexed, validation))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toMap(IndexedValue::index, IndexedValue::value, (a, b) -> a, TreeMap::new));
+    }
+
+    private static <T> IndexedValue<Violations> validate(IndexedValue<T> indexed, BiConsumer<? super T, Validator> validation) {
+        Validator validator = new Validator();
+        validation.accept(indexed.value(), validator);
+        return validator.isValid() ? null : new IndexedValue<>(validator.violations(), indexed.index());
+    }
+
+    /**
+     * Checks that the specified requirement is fulfilled.
+     * Records a violation if it is not.
+     * @param requirement the requirement.
+     * @param msg the violation message.
+     * @param args the violation message parameters.
+     * @return true if the requirement is fulfilled; else false.
+     */
+    public boolean require(Requirement requirement, String msg, Object... args) {
+        return check(requirement.test(), msg) || violation(msg, copyOf(args));
+    }
+
+    /**
+     * Checks that the specified requirement is fulfilled.
+     * Records a violation if it is not.
+     * @param requirement the requirement.
+     * @param msg the violation message.
+     * @return true if the requirement is fulfilled; else false.
+     */
+    public boolean require(Requirement requirement, String msg) {
+        return check(requirement.test(), msg) || violation(msg, null);
+    }
+
+    /**
+     * Checks that the specified requirement is fulfilled.
+     * Records a violation if it is not.
+     * @param requirement the requirement.
+     * @param msg the violation message.
+     * @param arg1 the violation message parameter.
+     * @return true if the requirement is fulfilled; else false.
+     */
+    public boolean require(Requirement requirement, String msg, Object arg1) {
+        return check(requirement.test(), msg) || violation(msg, argsOf(arg1));
+    }
+
+    /**
+     * Checks that the specified requirement is fulfilled.
+     * Records a violation if it is not.
+     * @param requirement the requirement.
+     * @param msg the violation message.
+     * @param arg1 the first violation message parameter.
+     * @param arg2 the second violation message parameter.
+     * @return true if the requirement is fulfilled; else false.
+     */
+    public boolean require(Requirement requirement, String msg, Object arg1, Object arg2) {
+        return check(requirement.test(), msg) || violation(msg, new Object[] {arg1, arg2});
+    }
+
+    /**
+     * Checks that the specified value is not null.
+     * Records a violation if it is.
+     * @param value the value to check.
+     * @param msg the violation message.
+     * @param args the violation message parameters.
+     * @return true if the value is not null; else false.
+     */
+    public boolean requireNonNull(Object value, String msg, Object... args) {
+        return check(!isNull(value), msg) || violation(msg, copyOf(args));
+    }
+
+    /**
+     * Checks that the specified value is not null.
+     * Records a violation if it is.
+     * @param value the value to check.
+     * @param msg the violation message.
+     * @return true if the value is not null; else false.
+     */
+    public boolean requireNonNull(Object value, String msg) {
+        return check(!isNull(value), msg) || violation(msg, null);
+    }
+
+    /**
+     * Checks that the specified value is not null.
+     * Records a violation if it is.
+     * @param value the value to check.
+     * @param msg the violation message.
+     * @param arg1 the violation message parameter.
+     * @return true if the value is not null; else false.
+     */
+    public boolean requireNonNull(Object value, String msg, Object arg1) {
+        return check(!isNull(value), msg) || violation(msg, argsOf(arg1));
+    }
+
+    /**
+     * Checks that the specified value is not null.
+     * Records a violation if it is.
+     * @param value the value to check.
+     * @param msg the violation message.
+     * @param arg1 the first violation message parameter.
+     * @param arg2 the second violation message parameter.
+     * @return true if the value is not null; else false.
+     */
+    public boolean requireNonNull(Object value, String msg, Object arg1, Object arg2) {
+        return check(!isNull(value), msg) || violation(msg, new Object[] {arg1, arg2});
+    }
+
+    /**
+     * Checks that the specified string is not blank, i.e. not null or empty, as tested by {@link StringHelper#isBlank(String)}.
+     * Records a violation if it is.
+     * @param string the string to check.
+     * @param msg the violation message.
+     * @param args the violation message parameters.
+     * @return true if the string is not blank; else false.
+     */
+    public boolean requireNonBlank(String string, String msg, Object... args) {
+        return check(!isBlank(string), msg) || violation(msg, copyOf(args));
+    }
+
+    /**
+     * Checks that the specified string is not blank, i.e. not null or empty, as tested by {@link StringHelper#isBlank(String)}.
+     * Records a violation if it is.
+     * @param string the string to check.
+     * @param msg the violation message.
+     * @return true if the string is not blank; else false.
+     */
+    public boolean requireNonBlank(String string, String msg) {
+        return check(!isBlank(string), msg) || violation(msg, null);
+    }
+
+    /**
+     * Checks that the specified string is not blank, i.e. not null or empty, as tested by {@link StringHelper#isBlank(String)}.
+     * Records a violation if it is.
+     * @param string the string to check.
+     * @param msg the violation message.
+     * @param arg1 the violation message parameter.
+     * @return true if the string is not blank; else false.
+     */
+    public boolean requireNonBlank(String string, String msg, Object arg1) {
+        return check(!isBlank(string), msg) || violation(msg, argsOf(arg1));
+    }
+
+    /**
+     * Checks that the specified string is not blank, i.e. not null or empty, as tested by {@link StringHelper#isBlank(String)}.
+     * Records a violation if it is.
+     * @param string the string to check.
+     * @param msg the violation message.
+     * @param arg1 the first violation message parameter.
+     * @param arg2 the second violation message parameter.
+     * @return true if the string is not blank; else false.
+     */
+    public boolean requireNonBlank(String string, String msg, Object arg1, Object arg2) {
+        return check(!isBlank(string), msg) || violation(msg, new Object[] {arg1, arg2});
+    }
+
+    /**
+     * Checks that the specified collection is not null and contains at least one element.
+     * Records a violation if it is.
+     * @param collection the collection to check.
+     * @param msg the violation message.
+     * @param args the violation message parameters.
+     * @return true if the collection is not null or empty; else false.
+     */
+    public boolean requireNonEmpty(Collection<?> collection, String msg, Object... args) {
+        return check(CollectionHelper.nonEmpty(collection), msg) || violation(msg, copyOf(args));
+    }
+
+    /**
+     * Checks that the specified collection is not null and contains at least one element.
+     * Records a violation if it is.
+     * @param collection the collection to check.
+     * @param msg the violation message.
+     * @return true if the collection is not null or empty; else false.
+     */
+    public boolean requireNonEmpty(Collection<?> collection, String msg) {
+        return check(CollectionHelper.nonEmpty(collection), msg) || violation(msg, null);
+    }
+
+    /**
+     * Checks that the specified collection is not null and contains at least one element.
+     * Records a violation if it is.
+     * @param collection the collection to check.
+     * @param msg the violation message.
+     * @param arg1 the violation message parameter.
+     * @return true if the collection is not null or empty; else false.
+     */
+    public boolean requireNonEmpty(Collection<?> collection, String msg, Object arg1) {
+        return check(CollectionHelper.nonEmpty(collection), msg) || violation(msg, argsOf(arg1));
+    }
+
+    /**
+     * Checks that the specified collection is not null and contains at least one element.
+     * Records a violation if it is.
+     * @param collection the collection to check.
+     * @param msg the violation message.
+     * @param arg1 the first violation message parameter.
+     * @param arg2 the second violation message parameter.
+     * @return true if the collection is not null or empty; else false.
+     */
+    public boolean requireNonEmpty(Collection<?> collection, String msg, Object arg1, Object arg2) {
+        return check(CollectionHelper.nonEmpty(collection), msg) || violation(msg, new Object[] {arg1, arg2});
+    }
+
+    /**
+     * Returns whether no violations are recorded.
+     * @return true if no violations are recorded; else false.
+     */
+    public boolean isValid() {
+        return isNull(violations);
+    }
+
+    /**
+     * Returns the violations recorded so far.
+     * @return the violations.
+     */
+    public Violations violations() {
+        return Violations.of(isNull(violations) ? List.of() : violations);
+    }
+
+    private static boolean check(boolean fulfilled, String msg) {
+        Objects.requireNonNull(msg, "msg is null");
+        return fulfilled;
+    }
+
+    private boolean violation(String msg, Object[] args) {
+        if (isNull(violations)) {
+            violations = new ArrayList<>(4);
+        }
+        violations.add(new Violation(msg, args));
+        return false;
+    }
+
+    private static Object[] copyOf(Object[] args) {
+        // The recorded violation must not change if the caller reuses its parameter array
+        return isNull(args) ? null : args.clone();
+    }
+
+    private static Object[] argsOf(Object arg1) {
+        // Mirror the varargs variant, which receives an object array argument as the parameter array itself
+        return arg1 instanceof Object[] args ? args.clone() : new Object[] {arg1};
+    }
+}
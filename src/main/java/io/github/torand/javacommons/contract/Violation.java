@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import io.github.torand.javacommons.lang.MessageTemplate;
+
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A failed check recorded by a {@link Validator}.
+ * The message is formatted from the template and arguments when first requested.
+ * A template without arguments is the message itself, and is not formatted.
+ */
+public final class Violation {
+    private static final Object[] NO_ARGS = {};
+
+    private final String template;
+    private final Object[] args;
+    private String message;
+
+    /**
+     * Creates a {@link Violation} object. The arguments array is kept, and must not be modified by the caller.
+     * @param template the message template.
+     * @param args the message arguments, or null if none.
+     */
+    Violation(String template, Object[] args) {
+        this.template = template;
+        this.args = isNull(args) ? NO_ARGS : args;
+    }
+
+    /**
+     * Returns the message template.
+     * @return the message template.
+     */
+    public String template() {
+        return template;
+    }
+
+    /**
+     * Returns the message arguments.
+     * @return a copy of the message arguments.
+     */
+    public Object[] args() {
+        return args.clone();
+    }
+
+    /**
+     * Returns the message, formatted from the template and arguments.
+     * @return the message.
+     */
+    public String message() {
+        // Benign race: the formatted message is immutable and identical for all threads
+        String formatted = message;
+        if (isNull(formatted)) {
+            formatted = args.length == 0 ? template : MessageTemplate.format(template, args);
+            message = formatted;
+        }
+        return formatted;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Violation other)) {
+            return false;
+        }
+        return template.equals(other.template) && Arrays.equals(args, other.args);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * template.hashCode() + Arrays.hashCode(args);
+    }
+
+    @Override
+    public String toString() {
+        return "Violation{" + message() + "}";
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The violations recorded by a {@link Validator}.
+ */
+public final class Violations {
+    private static final Violations NONE = new Violations(List.of());
+
+    private final List<Violation> violations;
+
+    private Violations(List<Violation> violations) {
+        this.violations = violations;
+    }
+
+    static Violations of(List<Violation> violations) {
+        return violations.isEmpty() ? NONE : new Violations(List.copyOf(violations));
+    }
+
+    /**
+     * Returns whether there are no violations.
+     * @return true if there are no violations; else false.
+     */
+    public boolean isEmpty() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Returns the number of violations.
+     * @return the number of violations.
+     */
+    public int size() {
+        return violations.size();
+    }
+
+    /**
+     * Returns the violations, in the order recorded.
+     * @return the unmodifiable list of violations.
+     */
+    public List<Violation> asList() {
+        return violations;
+    }
+
+    /**
+     * Returns the messages of the violations, in the order recorded.
+     * @return the list of messages.
+     */
+    public List<String> messages() {
+        return violations.stream().map(Violation::message).toList();
+    }
+
+    /**
+     * Throws an IllegalArgumentException with the messages of the violations, if there are any.
+     */
+    public void throwIfAny() {
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream().map(Violation::message).collect(Collectors.joining("; ")));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Violations other)) {
+            return false;
+        }
+        return violations.equals(other.violations);
+    }
+
+    @Override
+    public int hashCode() {
+        return violations.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Violations" + messages();
+    }
+}
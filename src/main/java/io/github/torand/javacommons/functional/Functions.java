@@ -15,8 +15,11 @@
  */
 package io.github.torand.javacommons.functional;
 
+import java.time.Duration;
 import java.util.function.Function;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * General purpose functions for streams.
  */
@@ -33,4 +36,51 @@ public final class Functions {
     public static <S, T> Function<S,T> castTo(Class<T> targetClass) {
         return targetClass::cast;
     }
+
+    /**
+     * Returns a thread-safe function caching all results of the specified function.
+     * @param function the function, which should be free of side effects.
+     * @param <T> the input type.
+     * @param <R> the result type.
+     * @return the memoizing function.
+     */
+    public static <T, R> MemoizingFunction<T, R> memoize(Function<? super T, ? extends R> function) {
+        return new MemoizingFunction<>(function, Integer.MAX_VALUE, null, System::nanoTime);
+    }
+
+    /**
+     * Returns a thread-safe function caching up to the specified number of results of the specified function.
+     * @param function the function, which should be free of side effects.
+     * @param maxSize the maximum number of cached results.
+     * @param <T> the input type.
+     * @param <R> the result type.
+     * @return the memoizing function.
+     */
+    public static <T, R> MemoizingFunction<T, R> memoize(Function<? super T, ? extends R> function, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive, was %d".formatted(maxSize));
+        }
+        return new MemoizingFunction<>(function, maxSize, null, System::nanoTime);
+    }
+
+    /**
+     * Returns a thread-safe function caching up to the specified number of results of the specified function, each for
+     * the specified duration.
+     * @param function the function, which should be free of side effects.
+     * @param maxSize the maximum number of cached results.
+     * @param expireAfterWrite the duration after which a cached result is recomputed.
+     * @param <T> the input type.
+     * @param <R> the result type.
+     * @return the memoizing function.
+     */
+    public static <T, R> MemoizingFunction<T, R> memoize(Function<? super T, ? extends R> function, int maxSize, Duration expireAfterWrite) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive, was %d".formatted(maxSize));
+        }
+        requireNonNull(expireAfterWrite, "expireAfterWrite is null");
+        if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("expireAfterWrite must be positive, was %s".formatted(expireAfterWrite));
+        }
+        return new MemoizingFunction<>(function, maxSize, expireAfterWrite, System::nanoTime);
+    }
 }
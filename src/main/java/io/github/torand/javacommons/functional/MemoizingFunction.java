@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.functional;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe function caching the results of another function.
+ * <p>
+ * Cached results are read without locking. When a result is missing, only one thread computes it, while other
+ * threads requesting the same key wait for the result. Exceptions thrown by the function are not cached.
+ * <p>
+ * If the cache is bounded, entries are evicted with the CLOCK algorithm, an approximation of least recently used
+ * eviction: entries read since the last eviction pass get a second chance. The size bound may be exceeded briefly
+ * while another thread is evicting. If an expiry duration is specified, entries are recomputed when read after the
+ * duration has passed since they were computed.
+ * <p>
+ * The function must not call this memoizing function recursively for the same key; doing so throws an
+ * {@link IllegalStateException}, as {@link ConcurrentHashMap#computeIfAbsent} does.
+ * @param <T> the input type
+ * @param <R> the result type
+ */
+public final class MemoizingFunction<T, R> implements Function<T, R> {
+    private static final Object NULL_KEY = new Object();
+    private static final int MIN_CLOCK_SLACK = 16;
+
+    private final Function<? super T, ? extends R> function;
+    private final int maxSize;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+
+    private final ConcurrentHashMap<Object, Node<R>> cache = new ConcurrentHashMap<>();
+    private final Queue<Node<R>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger clockSize = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Hit, miss and eviction counts of a memoizing function.
+     * @param hits the number of calls returning a cached result.
+     * @param misses the number of calls computing the result.
+     * @param evictions the number of cached results evicted or expired.
+     */
+    public record Stats(long hits, long misses, long evictions) {
+
+        /**
+         * Returns the ratio of calls returning a cached result.
+         * @return the hit rate, between 0 and 1, or 0 if there have been no calls.
+         */
+        public double hitRate() {
+            long calls = hits + misses;
+            return calls == 0 ? 0.0 : (double) hits / calls;
+        }
+    }
+
+    MemoizingFunction(Function<? super T, ? extends R> function, int maxSize, Duration expireAfterWrite, LongSupplier ticker) {
+        this.function = requireNonNull(function, "function is null");
+        this.maxSize = maxSize;
+        this.expireAfterWriteNanos = isNull(expireAfterWrite) ? Long.MAX_VALUE : expireAfterWrite.toNanos();
+        this.ticker = ticker;
+    }
+
+    @Override
+    public R apply(T input) {
+        Object key = isNull(input) ? NULL_KEY : input;
+
+        Node<R> node = cache.get(key);
+        if (node != null && node.computed && !isExpired(node)) {
+            node.reference();
+            hits.increment();
+            return node.value;
+        }
+
+        while (true) {
+            node = cache.computeIfAbsent(key, Node::new);
+            if (node.computed && isExpired(node)) {
+                if (cache.remove(key, node)) {
+                    evictions.increment();
+                }
+                continue;
+            }
+            return valueOf(node, input);
+        }
+    }
+
+    /**
+     * Returns the hit, miss and eviction counts since the function was created or last cleared.
+     * @return the statistics.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Returns the number of cached results.
+     * @return the number of cached results.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all cached results and resets the statistics.
+     */
+    public void clear() {
+        cache.clear();
+        clock.clear();
+        clockSize.set(0);
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private R valueOf(Node<R> node, T input) {
+        boolean computedHere = false;
+        synchronized (node) {
+            if (!node.computed) {
+                if (node.computingThread == Thread.currentThread()) {
+                    // The monitor is reentrant, so recursion for the same key would otherwise compute again
+                    throw new IllegalStateException("Recursive update of key %s".formatted(node.key == NULL_KEY ? null : node.key));
+                }
+                node.computingThread = Thread.currentThread();
+                try {
+                    node.value = function.apply(input);
+                } catch (RuntimeException | Error e) {
+                    cache.remove(node.key, node);
+                    throw e;
+                } finally {
+                    node.computingThread = null;
+                }
+                node.writeTime = ticker.getAsLong();
+                node.computed = true;
+                computedHere = true;
+            }
+        }
+
+        if (computedHere) {
+            misses.increment();
+            if (maxSize != Integer.MAX_VALUE) {
+                offerClock(node);
+                evictIfNeeded();
+            }
+        } else {
+            node.reference();
+            hits.increment();
+        }
+        return node.value;
+    }
+
+    private boolean isExpired(Node<R> node) {
+        return expireAfterWriteNanos != Long.MAX_VALUE && ticker.getAsLong() - node.writeTime >= expireAfterWriteNanos;
+    }
+
+    /**
+     * Returns the number of entries in the CLOCK queue, including entries removed from the cache but not yet dropped.
+     * @return the queue size.
+     */
+    int clockSize() {
+        return clockSize.get();
+    }
+
+    private void evictIfNeeded() {
+        if ((cache.size() <= maxSize && !hasStaleClockEntries()) || !evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            while (cache.size() > maxSize) {
+                Node<R> candidate = pollClock();
+                if (candidate == null) {
+                    break;
+                } else if (isStale(candidate)) {
+                    // Already removed, after expiry or a failed computation
+                    continue;
+                } else if (candidate.referenced) {
+                    candidate.referenced = false;
+                    offerClock(candidate);
+                } else if (cache.remove(candidate.key, candidate)) {
+                    evictions.increment();
+                }
+            }
+
+            if (hasStaleClockEntries()) {
+                // Entries replaced after expiry are not evicted, so drop them in a full turn of the clock
+                for (int remaining = clockSize.get(); remaining > 0; remaining--) {
+                    Node<R> candidate = pollClock();
+                    if (candidate == null) {
+                        break;
+                    } else if (!isStale(candidate)) {
+                        offerClock(candidate);
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean hasStaleClockEntries() {
+        return clockSize.get() > 2 * cache.size() + MIN_CLOCK_SLACK;
+    }
+
+    private boolean isStale(Node<R> node) {
+        return cache.get(node.key) != node;
+    }
+
+    private Node<R> pollClock() {
+        Node<R> node = clock.poll();
+        if (node != null) {
+            clockSize.decrementAndGet();
+        }
+        return node;
+    }
+
+    private void offerClock(Node<R> node) {
+        clock.offer(node);
+        clockSize.incrementAndGet();
+    }
+
+    /**
+     * A cache entry, holding a result once computed.
+     * @param <R> the result type.
+     */
+    private static final class Node<R> {
+        private final Object key;
+        private volatile boolean computed;
+        private volatile boolean referenced;
+        private Thread computingThread;
+        private R value;
+        private long writeTime;
+
+        private Node(Object key) {
+            this.key = key;
+        }
+
+        private void reference() {
+            // Avoid writing a shared cache line on every read
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
@@ -15,8 +15,12 @@
  */
 package io.github.torand.javacommons.functional;
 
-import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.isNull;
 
 /**
  * General purpose utilities for optionals.
@@ -33,7 +37,151 @@ public final class Optionals {
      * @param <T> the type to map from.
      * @param <U> the type to map to.
      */
-    public static <T, U> U mapSafely(T value, Function<T, U> mapper) {
-        return Optional.ofNullable(value).map(mapper).orElse(null);
+    public static <T, U> U mapSafely(T value, Function<? super T, ? extends U> mapper) {
+        return isNull(value) ? null : mapper.apply(value);
+    }
+
+    /**
+     * Executes the specified mapping functions in sequence on the value, as long as the value and the intermediate results are not null.
+     * Returns null if any of them is.
+     * @param value the value to map.
+     * @param mapper1 the first mapper function.
+     * @param mapper2 the second mapper function.
+     * @return the mapped value if not null.
+     * @param <T> the type to map from.
+     * @param <U1> the intermediate type.
+     * @param <U> the type to map to.
+     */
+    public static <T, U1, U> U mapSafely(T value, Function<? super T, ? extends U1> mapper1, Function<? super U1, ? extends U> mapper2) {
+        U1 result1 = mapSafely(value, mapper1);
+        return isNull(result1) ? null : mapper2.apply(result1);
+    }
+
+    /**
+     * Executes the specified mapping functions in sequence on the value, as long as the value and the intermediate results are not null.
+     * Returns null if any of them is.
+     * @param value the value to map.
+     * @param mapper1 the first mapper function.
+     * @param mapper2 the second mapper function.
+     * @param mapper3 the third mapper function.
+     * @return the mapped value if not null.
+     * @param <T> the type to map from.
+     * @param <U1> the first intermediate type.
+     * @param <U2> the second intermediate type.
+     * @param <U> the type to map to.
+     */
+    public static <T, U1, U2, U> U mapSafely(T value, Function<? super T, ? extends U1> mapper1, Function<? super U1, ? extends U2> mapper2, Function<? super U2, ? extends U> mapper3) {
+        U2 result2 = mapSafely(value, mapper1, mapper2);
+        return isNull(result2) ? null : mapper3.apply(result2);
+    }
+
+    /**
+     * Executes the specified mapping functions in sequence on the value, as long as the value and the intermediate results are not null.
+     * Returns null if any of them is.
+     * @param value the value to map.
+     * @param mapper1 the first mapper function.
+     * @param mapper2 the second mapper function.
+     * @param mapper3 the third mapper function.
+     * @param mapper4 the fourth mapper function.
+     * @return the mapped value if not null.
+     * @param <T> the type to map from.
+     * @param <U1> the first intermediate type.
+     * @param <U2> the second intermediate type.
+     * @param <U3> the third intermediate type.
+     * @param <U> the type to map to.
+     */
+    public static <T, U1, U2, U3, U> U mapSafely(T value, Function<? super T, ? extends U1> mapper1, Function<? super U1, ? extends U2> mapper2, Function<? super U2, ? extends U3> mapper3, Function<? super U3, ? extends U> mapper4) {
+        U3 result3 = mapSafely(value, mapper1, mapper2, mapper3);
+        return isNull(result3) ? null : mapper4.apply(result3);
+    }
+
+    /**
+     * Executes the specified mapping function on the value if it is not null.
+     * Returns the default value if the value or the mapped value is null.
+     * @param value the value to map.
+     * @param mapper the mapper function.
+     * @param defaultValue the default value.
+     * @return the mapped value if not null; else the default value.
+     * @param <T> the type to map from.
+     * @param <U> the type to map to.
+     */
+    public static <T, U> U mapSafelyOrElse(T value, Function<? super T, ? extends U> mapper, U defaultValue) {
+        U result = mapSafely(value, mapper);
+        return isNull(result) ? defaultValue : result;
+    }
+
+    /**
+     * Executes the specified mapping functions in sequence on the value, as long as the value and the intermediate results are not null.
+     * Returns the default value if any of them, or the mapped value, is null.
+     * @param value the value to map.
+     * @param mapper1 the first mapper function.
+     * @param mapper2 the second mapper function.
+     * @param defaultValue the default value.
+     * @return the mapped value if not null; else the default value.
+     * @param <T> the type to map from.
+     * @param <U1> the intermediate type.
+     * @param <U> the type to map to.
+     */
+    public static <T, U1, U> U mapSafelyOrElse(T value, Function<? super T, ? extends U1> mapper1, Function<? super U1, ? extends U> mapper2, U defaultValue) {
+        U result = mapSafely(value, mapper1, mapper2);
+        return isNull(result) ? defaultValue : result;
+    }
+
+    /**
+     * Executes the specified mapping functions in sequence on the value, as long as the value and the intermediate results are not null.
+     * Returns the default value if any of them, or the mapped value, is null.
+     * @param value the value to map.
+     * @param mapper1 the first mapper function.
+     * @param mapper2 the second mapper function.
+     * @param mapper3 the third mapper function.
+     * @param defaultValue the default value.
+     * @return the mapped value if not null; else the default value.
+     * @param <T> the type to map from.
+     * @param <U1> the first intermediate type.
+     * @param <U2> the second intermediate type.
+     * @param <U> the type to map to.
+     */
+    public static <T, U1, U2, U> U mapSafelyOrElse(T value, Function<? super T, ? extends U1> mapper1, Function<? super U1, ? extends U2> mapper2, Function<? super U2, ? extends U> mapper3, U defaultValue) {
+        U result = mapSafely(value, mapper1, mapper2, mapper3);
+        return isNull(result) ? defaultValue : result;
+    }
+
+    /**
+     * Executes the specified 'int' mapping function on the value if it is not null.
+     * Returns the default value if it is.
+     * @param value the value to map.
+     * @param mapper the mapper function.
+     * @param defaultValue the default value.
+     * @return the mapped value if the value is not null; else the default value.
+     * @param <T> the type to map from.
+     */
+    public static <T> int mapSafelyToInt(T value, ToIntFunction<? super T> mapper, int defaultValue) {
+        return isNull(value) ? defaultValue : mapper.applyAsInt(value);
+    }
+
+    /**
+     * Executes the specified 'long' mapping function on the value if it is not null.
+     * Returns the default value if it is.
+     * @param value the value to map.
+     * @param mapper the mapper function.
+     * @param defaultValue the default value.
+     * @return the mapped value if the value is not null; else the default value.
+     * @param <T> the type to map from.
+     */
+    public static <T> long mapSafelyToLong(T value, ToLongFunction<? super T> mapper, long defaultValue) {
+        return isNull(value) ? defaultValue : mapper.applyAsLong(value);
+    }
+
+    /**
+     * Executes the specified 'double' mapping function on the value if it is not null.
+     * Returns the default value if it is.
+     * @param value the value to map.
+     * @param mapper the mapper function.
+     * @param defaultValue the default value.
+     * @return the mapped value if the value is not null; else the default value.
+     * @param <T> the type to map from.
+     */
+    public static <T> double mapSafelyToDouble(T value, ToDoubleFunction<? super T> mapper, double defaultValue) {
+        return isNull(value) ? defaultValue : mapper.applyAsDouble(value);
     }
 }
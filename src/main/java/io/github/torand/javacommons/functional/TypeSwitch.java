@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.functional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A function dispatching each input to a handler registered for its class, as an alternative to chains of
+ * {@link Predicates#instanceOf(Class)} filters and {@link Functions#castTo(Class)} mappings.
+ * <p>
+ * The handler of an input is the one registered for the most specific class or interface the input is an instance of.
+ * If several unrelated classes or interfaces are equally specific, the first registered wins. Inputs without a matching
+ * handler, including null, are passed to the fallback handler, if any. The handler is resolved once per runtime class and
+ * cached, so dispatching takes constant time.
+ * @param <T> the input type
+ * @param <R> the result type
+ */
+public final class TypeSwitch<T, R> implements Function<T, R> {
+    private final List<Case<R>> cases;
+    private final Case<R> otherwise;
+
+    private final ClassValue<Case<R>> handlers = new ClassValue<>() {
+        @Override
+        protected Case<R> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private TypeSwitch(List<Case<R>> cases, Case<R> otherwise) {
+        this.cases = List.copyOf(cases);
+        this.otherwise = otherwise;
+    }
+
+    /**
+     * Creates a builder of a {@link TypeSwitch} object.
+     * @return the builder.
+     * @param <T> the input type.
+     * @param <R> the result type.
+     */
+    public static <T, R> Builder<T, R> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Applies the handler of the specified input.
+     * @param input the input.
+     * @return the result of the handler.
+     * @throws IllegalArgumentException if there is no handler for the input.
+     */
+    @Override
+    public R apply(T input) {
+        return caseOf(input).handler().apply(input);
+    }
+
+    /**
+     * Returns whether there is a handler for the specified input.
+     * @param input the input.
+     * @return true if there is a handler for the input; else false.
+     */
+    public boolean handles(T input) {
+        return nonNullCaseOf(input) != null || otherwise != null;
+    }
+
+    /**
+     * Returns a {@link Collector} applying the handler of each element, and grouping the results by the class the
+     * handler is registered for. Results of the fallback handler are grouped under {@link Object}.
+     * The groups are ordered by registration, with the fallback group last.
+     * @return the {@link Collector} object.
+     */
+    public Collector<T, ?, Map<Class<?>, List<R>>> groupingByHandler() {
+        return Collector.of(
+            this::newGroups,
+            (groups, element) -> {
+                Case<R> handlerCase = caseOf(element);
+                groups.get(handlerCase.type()).add(handlerCase.handler().apply(element));
+            },
+            (left, right) -> {
+                right.forEach((type, results) -> left.get(type).addAll(results));
+                return left;
+            },
+            groups -> {
+                groups.values().removeIf(List::isEmpty);
+                return groups;
+            });
+    }
+
+    private Map<Class<?>, List<R>> newGroups() {
+        Map<Class<?>, List<R>> groups = new LinkedHashMap<>();
+        cases.forEach(c -> groups.put(c.type(), new ArrayList<>()));
+        if (otherwise != null) {
+            groups.putIfAbsent(otherwise.type(), new ArrayList<>());
+        }
+        return groups;
+    }
+
+    private Case<R> caseOf(T input) {
+        Case<R> handlerCase = nonNullCaseOf(input);
+        if (isNull(handlerCase)) {
+            handlerCase = otherwise;
+        }
+        if (isNull(handlerCase)) {
+            throw new IllegalArgumentException("No handler for %s".formatted(isNull(input) ? "null" : input.getClass().getName()));
+        }
+        return handlerCase;
+    }
+
+    private Case<R> nonNullCaseOf(T input) {
+        return isNull(input) ? null : handlers.get(input.getClass());
+    }
+
+    private Case<R> resolve(Class<?> type) {
+        List<Case<R>> matching = cases.stream().filter(c -> c.type().isAssignableFrom(type)).toList();
+        for (Case<R> candidate : matching) {
+            if (matching.stream().noneMatch(other -> isMoreSpecific(other.type(), candidate.type()))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isMoreSpecific(Class<?> type, Class<?> other) {
+        return type != other && other.isAssignableFrom(type);
+    }
+
+    /**
+     * A handler and the class it is registered for.
+     * @param type the class.
+     * @param handler the handler.
+     * @param <R> the result type.
+     */
+    private record Case<R>(Class<?> type, Function<Object, R> handler) {
+    }
+
+    /**
+     * A builder of {@link TypeSwitch} objects.
+     * @param <T> the input type
+     * @param <R> the result type
+     */
+    public static final class Builder<T, R> {
+        private final List<Case<R>> cases = new ArrayList<>();
+        private Case<R> otherwise;
+
+        private Builder() {}
+
+        /**
+         * Registers a handler for instances of the specified class or interface.
+         * @param type the class or interface.
+         * @param handler the handler.
+         * @return this builder.
+         * @param <S> the handled type.
+         */
+        @SuppressWarnings("unchecked")
+        public <S extends T> Builder<T, R> on(Class<S> type, Function<? super S, ? extends R> handler) {
+            requireNonNull(type, "type is null");
+            requireNonNull(handler, "handler is null");
+            if (cases.stream().anyMatch(c -> c.type() == type)) {
+                throw new IllegalArgumentException("Handler for %s already registered".formatted(type.getName()));
+            }
+
+            // The cast is safe, as the handler is only applied to instances of the type
+            cases.add(new Case<>(type, (Function<Object, R>) handler));
+            return this;
+        }
+
+        /**
+         * Registers a fallback handler for inputs without a matching handler, including null.
+         * @param handler the handler.
+         * @return this builder.
+         */
+        @SuppressWarnings("unchecked")
+        public Builder<T, R> otherwise(Function<? super T, ? extends R> handler) {
+            requireNonNull(handler, "handler is null");
+            otherwise = new Case<>(Object.class, (Function<Object, R>) handler);
+            return this;
+        }
+
+        /**
+         * Creates the {@link TypeSwitch} object.
+         * @return the type switch.
+         */
+        public TypeSwitch<T, R> build() {
+            return new TypeSwitch<>(cases, otherwise);
+        }
+    }
+}
@@ -15,12 +15,21 @@
  */
 package io.github.torand.javacommons.lang;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.IllegalFormatException;
 import java.util.function.Supplier;
 
 import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
 
 /**
  * Provides factory methods to create exception objects with customized messages.
+ * <p>
+ * The stackless and shared variants are intended for failure paths taken at a high rate, e.g. when rejecting invalid
+ * input, where filling in the stack trace dominates the cost of throwing. Their exceptions have an empty stack trace,
+ * and reading their message never fails: a message that cannot be formatted is shown with its parameters unformatted.
  */
 public final class Exceptions {
     private Exceptions() {}
@@ -33,7 +42,7 @@ public final class Exceptions {
      */
     public static Supplier<IllegalStateException> illegalStateException(String message, Object... args) {
         requireNonBlank(message, "message is blank");
-        return () -> new IllegalStateException(message.formatted(args));
+        return () -> new IllegalStateException(MessageTemplate.format(message, args));
     }
 
     /**
@@ -44,7 +53,7 @@ public final class Exceptions {
      */
     public static Supplier<IllegalArgumentException> illegalArgumentException(String message, Object... args) {
         requireNonBlank(message, "message is blank");
-        return () -> new IllegalArgumentException(message.formatted(args));
+        return () -> new IllegalArgumentException(MessageTemplate.format(message, args));
     }
 
     /**
@@ -55,6 +64,158 @@ public final class Exceptions {
      */
     public static Supplier<RuntimeException> runtimeException(String message, Object... args) {
         requireNonBlank(message, "message is blank");
-        return () -> new RuntimeException(message.formatted(args));
+        return () -> new RuntimeException(MessageTemplate.format(message, args));
+    }
+
+    /**
+     * Creates a supplier of IllegalStateException without a stack trace, whose message is formatted when first read.
+     * @param message the message.
+     * @param args the message parameters.
+     * @return the supplier.
+     */
+    public static Supplier<IllegalStateException> stacklessIllegalStateException(String message, Object... args) {
+        requireNonBlank(message, "message is blank");
+        return () -> new StacklessIllegalStateException(LazyMessage.of(message, args));
+    }
+
+    /**
+     * Creates a supplier of IllegalArgumentException without a stack trace, whose message is formatted when first read.
+     * @param message the message.
+     * @param args the message parameters.
+     * @return the supplier.
+     */
+    public static Supplier<IllegalArgumentException> stacklessIllegalArgumentException(String message, Object... args) {
+        requireNonBlank(message, "message is blank");
+        return () -> new StacklessIllegalArgumentException(LazyMessage.of(message, args));
+    }
+
+    /**
+     * Creates a supplier of RuntimeException without a stack trace, whose message is formatted when first read.
+     * @param message the message.
+     * @param args the message parameters.
+     * @return the supplier.
+     */
+    public static Supplier<RuntimeException> stacklessRuntimeException(String message, Object... args) {
+        requireNonBlank(message, "message is blank");
+        return () -> new StacklessRuntimeException(LazyMessage.of(message, args));
+    }
+
+    /**
+     * Creates a supplier always returning the same RuntimeException instance, without a stack trace and with a fixed
+     * message used verbatim. Suppression is disabled for the instance, so it holds no state added by its catchers.
+     * @param message the message.
+     * @return the supplier.
+     */
+    public static Supplier<RuntimeException> sharedRuntimeException(String message) {
+        requireNonBlank(message, "message is blank");
+        RuntimeException exception = new StacklessRuntimeException(LazyMessage.verbatim(message));
+        return () -> exception;
+    }
+
+    /**
+     * An exception message formatted when first read. An invalid pattern, or a mismatch between the pattern and the
+     * parameters, does not fail; the pattern and parameters are then shown unformatted.
+     */
+    private static final class LazyMessage implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String template;
+        private final transient Object[] args;
+        private String message;
+
+        private LazyMessage(String template, Object[] args, String message) {
+            this.template = template;
+            this.args = args;
+            this.message = message;
+        }
+
+        private static LazyMessage of(String template, Object[] args) {
+            return new LazyMessage(template, args, null);
+        }
+
+        private static LazyMessage verbatim(String message) {
+            return new LazyMessage(message, null, message);
+        }
+
+        private String get() {
+            // Formatting is idempotent, so concurrent first reads need no synchronization
+            String formatted = message;
+            if (formatted == null) {
+                formatted = format(template, args);
+                message = formatted;
+            }
+            return formatted;
+        }
+
+        private static String format(String template, Object[] args) {
+            try {
+                return MessageTemplate.format(template, args);
+            } catch (IllegalFormatException e) {
+                return template + " " + Arrays.toString(args);
+            }
+        }
+
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            get();
+            out.defaultWriteObject();
+        }
+    }
+
+    private static final class StacklessIllegalStateException extends IllegalStateException {
+        private static final long serialVersionUID = 1L;
+
+        private final LazyMessage message;
+
+        private StacklessIllegalStateException(LazyMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public String getMessage() {
+            return message.get();
+        }
+
+        @Override
+        public Throwable fillInStackTrace() {
+            // IllegalStateException has no constructor disabling the stack trace
+            return this;
+        }
+    }
+
+    private static final class StacklessIllegalArgumentException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        private final LazyMessage message;
+
+        private StacklessIllegalArgumentException(LazyMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public String getMessage() {
+            return message.get();
+        }
+
+        @Override
+        public Throwable fillInStackTrace() {
+            // IllegalArgumentException has no constructor disabling the stack trace
+            return this;
+        }
+    }
+
+    private static final class StacklessRuntimeException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final LazyMessage message;
+
+        private StacklessRuntimeException(LazyMessage message) {
+            super(null, null, false, false);
+            this.message = message;
+        }
+
+        @Override
+        public String getMessage() {
+            return message.get();
+        }
     }
 }
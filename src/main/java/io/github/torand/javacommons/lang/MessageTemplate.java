@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.lang;
+
+import java.math.BigInteger;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A message pattern parsed once for repeated formatting, producing the same output as {@link String#format(String, Object...)}.
+ * <p>
+ * Patterns using only the {@code %s}, {@code %d}, {@code %%} and {@code %n} format specifiers, without flags, width,
+ * precision or argument index, are rendered directly into an exact-size buffer. All other patterns, arguments not
+ * matching the specifiers and locales with non-ASCII digits are delegated to {@link String#format(String, Object...)}.
+ * <p>
+ * Templates created with {@link #of(String)} are cached, up to a fixed number of distinct patterns.
+ */
+public final class MessageTemplate {
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final ConcurrentHashMap<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private static final char STRING = 's';
+    private static final char DECIMAL = 'd';
+
+    private static volatile LocaleDigits localeDigits = new LocaleDigits(null, false);
+
+    private final String pattern;
+    private final String[] literals;
+    private final char[] specifiers;
+    private final boolean supported;
+
+    private MessageTemplate(String pattern) {
+        this.pattern = pattern;
+
+        List<String> parsedLiterals = new ArrayList<>();
+        StringBuilder specifierBuilder = new StringBuilder();
+        StringBuilder literal = new StringBuilder(pattern.length());
+        boolean parsed = true;
+
+        for (int i = 0; i < pattern.length() && parsed; i++) {
+            char c = pattern.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+            } else if (i + 1 == pattern.length()) {
+                parsed = false;
+            } else {
+                char conversion = pattern.charAt(++i);
+                switch (conversion) {
+                    case '%' -> literal.append('%');
+                    case 'n' -> literal.append(System.lineSeparator());
+                    case STRING, DECIMAL -> {
+                        parsedLiterals.add(literal.toString());
+                        specifierBuilder.append(conversion);
+                        literal.setLength(0);
+                    }
+                    default -> parsed = false;
+                }
+            }
+        }
+        parsedLiterals.add(literal.toString());
+
+        this.literals = parsedLiterals.toArray(String[]::new);
+        this.specifiers = specifierBuilder.toString().toCharArray();
+        this.supported = parsed;
+    }
+
+    /**
+     * Returns the template of the specified message pattern.
+     * @param pattern the message pattern.
+     * @return the template.
+     */
+    public static MessageTemplate of(String pattern) {
+        requireNonNull(pattern, "pattern is null");
+
+        MessageTemplate template = CACHE.get(pattern);
+        if (isNull(template)) {
+            template = new MessageTemplate(pattern);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                MessageTemplate existing = CACHE.putIfAbsent(pattern, template);
+                if (existing != null) {
+                    template = existing;
+                }
+            }
+        }
+
+        return template;
+    }
+
+    /**
+     * Formats the specified message pattern using a cached template.
+     * @param pattern the message pattern.
+     * @param args the message parameters.
+     * @return the formatted message.
+     */
+    public static String format(String pattern, Object... args) {
+        return of(pattern).render(args);
+    }
+
+    /**
+     * Returns the message pattern of this template.
+     * @return the message pattern.
+     */
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * Formats the message with the specified parameters.
+     * @param args the message parameters.
+     * @return the formatted message.
+     */
+    public String render(Object... args) {
+        if (!supported || (specifiers.length > 0 && (isNull(args) || args.length < specifiers.length))) {
+            return String.format(pattern, args);
+        }
+
+        String[] rendered = new String[specifiers.length];
+        int length = literals[specifiers.length].length();
+        for (int i = 0; i < specifiers.length; i++) {
+            String value = renderParameter(specifiers[i], args[i]);
+            if (isNull(value)) {
+                return String.format(pattern, args);
+            }
+            rendered[i] = value;
+            length += literals[i].length() + value.length();
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < specifiers.length; i++) {
+            builder.append(literals[i]).append(rendered[i]);
+        }
+        return builder.append(literals[specifiers.length]).toString();
+    }
+
+    /**
+     * Renders a single parameter, or returns null if the parameter must be formatted by {@link java.util.Formatter}.
+     */
+    private static String renderParameter(char specifier, Object arg) {
+        if (isNull(arg)) {
+            return "null";
+        } else if (specifier == STRING) {
+            return arg instanceof Formattable ? null : arg.toString();
+        } else if (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte || arg instanceof BigInteger) {
+            return hasAsciiDigits() ? arg.toString() : null;
+        }
+
+        return null;
+    }
+
+    private static boolean hasAsciiDigits() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        LocaleDigits digits = localeDigits;
+        if (digits.locale() != locale) {
+            digits = new LocaleDigits(locale, DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0');
+            localeDigits = digits;
+        }
+        return digits.ascii();
+    }
+
+    private record LocaleDigits(Locale locale, boolean ascii) {
+    }
+}
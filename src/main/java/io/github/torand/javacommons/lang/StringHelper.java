@@ -15,9 +15,13 @@
  */
 package io.github.torand.javacommons.lang;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
-import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
@@ -68,15 +72,41 @@ public final class StringHelper {
         requireNonNull(string, "string is null");
         requireNonNull(delimiter, "delimiter is null");
 
-        StringBuilder b = new StringBuilder();
-        for (int t = 0; t < count; t++) {
-            if (t != 0) {
-                b.append(delimiter);
+        if (count <= 0) {
+            return "";
+        } else if (delimiter.isEmpty()) {
+            return string.repeat(count);
+        }
+
+        return appendRepeated(new StringBuilder(exactLength(string, count, delimiter)), string, count, delimiter).toString();
+    }
+
+    /**
+     * Appends a substring multiple times delimited by a delimiter substring to the specified appendable.
+     * @param appendable the appendable, e.g. a {@link StringBuilder}.
+     * @param string the substring.
+     * @param count the number of repetitions.
+     * @param delimiter the delimiter.
+     * @return the appendable.
+     * @param <A> the appendable type.
+     */
+    public static <A extends Appendable> A appendRepeated(A appendable, CharSequence string, int count, CharSequence delimiter) {
+        requireNonNull(appendable, "appendable is null");
+        requireNonNull(string, "string is null");
+        requireNonNull(delimiter, "delimiter is null");
+
+        try {
+            for (int t = 0; t < count; t++) {
+                if (t != 0) {
+                    appendable.append(delimiter);
+                }
+                appendable.append(string);
             }
-            b.append(string);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        return b.toString();
+        return appendable;
     }
 
     /**
@@ -105,13 +135,84 @@ public final class StringHelper {
         return object;
     }
 
+    /**
+     * Appends the specified string enclosed by double quotes to the specified appendable.
+     * If the string is null, nothing is appended.
+     * @param appendable the appendable, e.g. a {@link StringBuilder}.
+     * @param string the string.
+     * @return the appendable.
+     * @param <A> the appendable type.
+     */
+    public static <A extends Appendable> A appendQuoted(A appendable, CharSequence string) {
+        requireNonNull(appendable, "appendable is null");
+        if (isNull(string)) {
+            return appendable;
+        }
+
+        try {
+            appendable.append('"').append(string).append('"');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+
     /**
      * Returns specified list with all strings quoted.
+     * Null strings are kept as null elements.
      * @param strings the list.
      * @return the list of quoted strings.
      */
     public static List<String> quoteAll(List<String> strings) {
-        return streamSafely(strings).map(StringHelper::quote).toList();
+        if (isNull(strings)) {
+            return Collections.emptyList();
+        }
+
+        // Iterate rather than index, as get(int) is linear for sequential lists
+        String[] quoted = new String[strings.size()];
+        int i = 0;
+        for (String string : strings) {
+            quoted[i++] = quote(string);
+        }
+        return Collections.unmodifiableList(Arrays.asList(quoted));
+    }
+
+    /**
+     * Appends the specified strings, each enclosed by double quotes and separated by a delimiter, to the specified appendable.
+     * Null strings are appended as null, unquoted, matching the null elements kept by {@link #quoteAll(List)}.
+     * If the iterable is null, nothing is appended.
+     * @param appendable the appendable, e.g. a {@link StringBuilder}.
+     * @param strings the strings.
+     * @param delimiter the delimiter.
+     * @return the appendable.
+     * @param <A> the appendable type.
+     */
+    public static <A extends Appendable> A appendQuotedAll(A appendable, Iterable<? extends CharSequence> strings, CharSequence delimiter) {
+        requireNonNull(appendable, "appendable is null");
+        requireNonNull(delimiter, "delimiter is null");
+        if (isNull(strings)) {
+            return appendable;
+        }
+
+        try {
+            boolean first = true;
+            for (CharSequence string : strings) {
+                if (!first) {
+                    appendable.append(delimiter);
+                }
+                if (isNull(string)) {
+                    appendable.append("null");
+                } else {
+                    appendable.append('"').append(string).append('"');
+                }
+                first = false;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
     }
 
     /**
@@ -144,6 +245,7 @@ public final class StringHelper {
 
     /**
      * Returns specified string with upper case first letter.
+     * If the first letter is already upper case, the string itself is returned.
      * @param string the string.
      * @return the capitalized string.
      */
@@ -152,11 +254,47 @@ public final class StringHelper {
             return string;
         }
 
+        char first = string.charAt(0);
+        if (isLocaleIndependent(first)) {
+            char upper = Character.toUpperCase(first);
+            return upper == first ? string : replaceFirst(string, upper);
+        }
+
         return string.substring(0,1).toUpperCase() + string.substring(1);
     }
 
+    /**
+     * Appends the specified string with upper case first letter to the specified appendable.
+     * If the string is null, nothing is appended.
+     * @param appendable the appendable, e.g. a {@link StringBuilder}.
+     * @param string the string.
+     * @return the appendable.
+     * @param <A> the appendable type.
+     */
+    public static <A extends Appendable> A appendCapitalized(A appendable, String string) {
+        requireNonNull(appendable, "appendable is null");
+        if (isBlank(string)) {
+            return appendable;
+        }
+
+        char first = string.charAt(0);
+        try {
+            if (isLocaleIndependent(first)) {
+                appendable.append(Character.toUpperCase(first));
+            } else {
+                appendable.append(string.substring(0,1).toUpperCase());
+            }
+            appendable.append(string, 1, string.length());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+
     /**
      * Returns specified string with lower case first letter.
+     * If the first letter is already lower case, the string itself is returned.
      * @param string the string.
      * @return the uncapitalized string.
      */
@@ -165,6 +303,69 @@ public final class StringHelper {
             return string;
         }
 
+        char first = string.charAt(0);
+        if (isLocaleIndependent(first)) {
+            char lower = Character.toLowerCase(first);
+            return lower == first ? string : replaceFirst(string, lower);
+        }
+
         return string.substring(0,1).toLowerCase() + string.substring(1);
     }
+
+    /**
+     * Appends the specified string with lower case first letter to the specified appendable.
+     * If the string is null, nothing is appended.
+     * @param appendable the appendable, e.g. a {@link StringBuilder}.
+     * @param string the string.
+     * @return the appendable.
+     * @param <A> the appendable type.
+     */
+    public static <A extends Appendable> A appendUncapitalized(A appendable, String string) {
+        requireNonNull(appendable, "appendable is null");
+        if (isBlank(string)) {
+            return appendable;
+        }
+
+        char first = string.charAt(0);
+        try {
+            if (isLocaleIndependent(first)) {
+                appendable.append(Character.toLowerCase(first));
+            } else {
+                appendable.append(string.substring(0,1).toLowerCase());
+            }
+            appendable.append(string, 1, string.length());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+
+    /**
+     * Returns whether case conversion of the specified character gives the same result as the locale-sensitive
+     * {@link String#toUpperCase()} and {@link String#toLowerCase()}. This holds for ASCII characters, except for the
+     * letter 'i' in Turkish and Azerbaijani.
+     */
+    private static boolean isLocaleIndependent(char c) {
+        if (c >= 128) {
+            return false;
+        } else if (c != 'i' && c != 'I') {
+            return true;
+        }
+
+        String language = Locale.getDefault().getLanguage();
+        return !"tr".equals(language) && !"az".equals(language);
+    }
+
+    private static String replaceFirst(String string, char first) {
+        return new StringBuilder(string.length()).append(first).append(string, 1, string.length()).toString();
+    }
+
+    private static int exactLength(String string, int count, String delimiter) {
+        long length = (long) string.length() * count + (long) delimiter.length() * (count - 1);
+        if (length > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Generated string too large: " + length);
+        }
+        return (int) length;
+    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.lang;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A concurrent, size-bounded pool of canonical string instances, used to deduplicate strings with many repeated values.
+ * <p>
+ * Unlike {@link String#intern()}, the pool never holds more than its capacity. It is organized as a two-way set
+ * associative cache: each string hashes to a set of two slots, and when both are taken the least recently used string
+ * is evicted. Lookups are lock-free, and concurrent updates may occasionally drop an entry, which costs a later miss but
+ * never returns a string with different content.
+ * <p>
+ * Character sequences and character array slices are hashed and compared in place, so no string is allocated when the
+ * value is already pooled.
+ */
+public final class StringPool {
+    private static final int WAYS = 2;
+
+    private final AtomicReferenceArray<String> slots;
+    private final int setMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Hit, miss and eviction counts of a string pool.
+     * @param hits the number of lookups returning a pooled string.
+     * @param misses the number of lookups adding a new string to the pool.
+     * @param evictions the number of pooled strings evicted to make room for new ones.
+     */
+    public record Stats(long hits, long misses, long evictions) {
+
+        /**
+         * Returns the ratio of lookups returning a pooled string.
+         * @return the hit rate, between 0 and 1, or 0 if there have been no lookups.
+         */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    /**
+     * Creates a string pool holding at most the specified number of strings, rounded up to a power of two.
+     * @param capacity the capacity.
+     */
+    public StringPool(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30, was %d".formatted(capacity));
+        }
+        int setCount = Math.max(1, Integer.highestOneBit(Math.max(capacity, WAYS) * 2 - 1) / WAYS);
+        this.slots = new AtomicReferenceArray<>(setCount * WAYS);
+        this.setMask = setCount - 1;
+    }
+
+    /**
+     * Returns the maximum number of strings held by the pool.
+     * @return the capacity.
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Returns the canonical instance of the specified string, adding the string to the pool if absent.
+     * @param string the string.
+     * @return the pooled string equal to the specified string, or null if the string is null.
+     */
+    public String intern(String string) {
+        if (isNull(string)) {
+            return null;
+        }
+
+        int base = setOf(string.hashCode());
+        for (int way = 0; way < WAYS; way++) {
+            String pooled = slots.get(base + way);
+            if (string.equals(pooled)) {
+                return hit(base, way, pooled);
+            }
+        }
+
+        return add(base, string);
+    }
+
+    /**
+     * Returns the canonical string with the contents of the specified character sequence, adding a new string to the
+     * pool if absent.
+     * @param chars the character sequence.
+     * @return the pooled string, or null if the character sequence is null.
+     */
+    public String intern(CharSequence chars) {
+        if (isNull(chars)) {
+            return null;
+        } else if (chars instanceof String string) {
+            return intern(string);
+        }
+
+        int hash = 0;
+        int length = chars.length();
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+
+        int base = setOf(hash);
+        for (int way = 0; way < WAYS; way++) {
+            String pooled = slots.get(base + way);
+            if (pooled != null && pooled.contentEquals(chars)) {
+                return hit(base, way, pooled);
+            }
+        }
+
+        return add(base, chars.toString());
+    }
+
+    /**
+     * Returns the canonical string with the contents of the specified character array slice, adding a new string to
+     * the pool if absent.
+     * @param chars the character array.
+     * @param offset the index of the first character.
+     * @param length the number of characters.
+     * @return the pooled string.
+     */
+    public String intern(char[] chars, int offset, int length) {
+        requireNonNull(chars, "chars is null");
+        Objects.checkFromIndexSize(offset, length, chars.length);
+
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+
+        int base = setOf(hash);
+        for (int way = 0; way < WAYS; way++) {
+            String pooled = slots.get(base + way);
+            if (pooled != null && contentEquals(pooled, chars, offset, length)) {
+                return hit(base, way, pooled);
+            }
+        }
+
+        return add(base, new String(chars, offset, length));
+    }
+
+    /**
+     * Returns the hit, miss and eviction counts since the pool was created or last cleared.
+     * @return the statistics.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Removes all strings from the pool and resets the statistics.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private int setOf(int hash) {
+        // Spread the high bits, as the low bits of string hashes are poorly distributed for short strings
+        return ((hash ^ (hash >>> 16)) & setMask) * WAYS;
+    }
+
+    private String hit(int base, int way, String pooled) {
+        hits.increment();
+
+        // Promote a hit in the last way, so a hot string is not evicted by strings added after it
+        if (way != 0) {
+            String first = slots.get(base);
+            if (first != pooled && slots.compareAndSet(base, first, pooled)) {
+                slots.compareAndSet(base + 1, pooled, first);
+            }
+        }
+
+        return pooled;
+    }
+
+    private String add(int base, String string) {
+        misses.increment();
+
+        // The most recently used string is kept in the first way, and the one in the last way is evicted
+        String first = slots.get(base);
+        if (first != null) {
+            String last = slots.getAndSet(base + 1, first);
+            if (last != null) {
+                evictions.increment();
+            }
+        }
+        slots.set(base, string);
+
+        return string;
+    }
+
+    private static boolean contentEquals(String string, char[] chars, int offset, int length) {
+        if (string.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (string.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
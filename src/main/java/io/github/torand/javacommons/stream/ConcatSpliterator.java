@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator traversing the elements of multiple spliterators in sequence.
+ * <p>
+ * The spliterator is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} if all remaining source spliterators
+ * are, and the sum of their sizes does not overflow. It is split on source boundaries while more than one source
+ * remains, and then by splitting the last source.
+ * @param <T> the element type
+ */
+public class ConcatSpliterator<T> implements Spliterator<T> {
+    private final List<Spliterator<? extends T>> sources;
+    private final Runnable[] closeActions;
+    private int index;
+    private final int end;
+
+    /**
+     * Creates a {@link ConcatSpliterator} object
+     * @param sources the spliterators to be concatenated
+     */
+    public ConcatSpliterator(List<? extends Spliterator<? extends T>> sources) {
+        this(List.copyOf(sources), null, 0, sources.size());
+    }
+
+    /**
+     * Creates a {@link ConcatSpliterator} object running a close action for each source once it is exhausted.
+     * The close action of a source split in parallel processing is not run, as its parts may be traversed by different threads.
+     * @param sources the spliterators to be concatenated
+     * @param closeActions the close actions, one per source
+     */
+    ConcatSpliterator(List<? extends Spliterator<? extends T>> sources, List<? extends Runnable> closeActions) {
+        this(List.copyOf(sources), closeActions.toArray(Runnable[]::new), 0, sources.size());
+    }
+
+    private ConcatSpliterator(List<Spliterator<? extends T>> sources, Runnable[] closeActions, int index, int end) {
+        this.sources = sources;
+        this.closeActions = closeActions;
+        this.index = index;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (index < end) {
+            if (sources.get(index).tryAdvance(action)) {
+                return true;
+            }
+            exhausted(index++);
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (index < end) {
+            sources.get(index).forEachRemaining(action);
+            exhausted(index++);
+        }
+    }
+
+    private void exhausted(int source) {
+        // Each source index is owned by a single spliterator after splitting, so the shared array needs no synchronization
+        if (closeActions != null && closeActions[source] != null) {
+            Runnable closeAction = closeActions[source];
+            closeActions[source] = null;
+            closeAction.run();
+        }
+    }
+
+    private boolean hasCloseAction(int source) {
+        return closeActions != null && closeActions[source] != null;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (int i = index; i < end; i++) {
+            size += sources.get(i).estimateSize();
+            if (size < 0) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        // Elements of different sources may be equal, and are not sorted with respect to each other
+        int characteristics = ~0;
+        long size = 0;
+        for (int i = index; i < end; i++) {
+            Spliterator<? extends T> source = sources.get(i);
+            characteristics &= source.characteristics();
+            size += source.estimateSize();
+        }
+        if (size < 0) {
+            characteristics &= ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+        return index < end ? characteristics & ~(Spliterator.DISTINCT | Spliterator.SORTED) : Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Spliterator<T> trySplit() {
+        int remaining = end - index;
+        if (remaining == 1) {
+            Spliterator<T> prefix = (Spliterator<T>) sources.get(index).trySplit();
+            if (prefix != null && hasCloseAction(index)) {
+                // Left to the close handler of the stream, as the parts may complete in any order
+                closeActions[index] = null;
+            }
+            return prefix;
+        } else if (remaining < 2) {
+            return null;
+        }
+
+        int middle = index + remaining / 2;
+        Spliterator<T> prefix = middle - index == 1 && !hasCloseAction(index)
+            ? (Spliterator<T>) sources.get(index)
+            : new ConcatSpliterator<>(sources, closeActions, index, middle);
+        index = middle;
+        return prefix;
+    }
+}
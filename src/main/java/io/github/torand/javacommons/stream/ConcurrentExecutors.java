@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates executors running concurrent stream mappings.
+ * <p>
+ * This implementation uses a bounded pool of daemon platform threads. On Java 21 and later, it is replaced by the
+ * implementation in the multi-release layer of the JAR, which uses virtual threads.
+ */
+final class ConcurrentExecutors {
+    private static final long KEEP_ALIVE_SECONDS = 1;
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private ConcurrentExecutors() {}
+
+    /**
+     * Creates an executor for running up to the specified number of mapping tasks concurrently.
+     * @param maxConcurrency the maximum number of concurrent tasks.
+     * @return the executor.
+     */
+    static ExecutorService newMappingExecutor(int maxConcurrency) {
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "mapConcurrent-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        // Threads time out, so an executor of an abandoned stream does not keep idle threads
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency,
+            KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
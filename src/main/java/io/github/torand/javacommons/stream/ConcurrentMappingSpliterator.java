@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import java.lang.ref.Cleaner;
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A spliterator mapping the elements of a source spliterator concurrently, with at most a fixed number of mappings in
+ * progress. Source elements are only consumed as mapped elements are consumed, so the source is never buffered.
+ * <p>
+ * In ordered mode, mapped elements are returned in source order, waiting for the oldest mapping to complete. In
+ * unordered mode, mapped elements are returned as soon as their mapping completes. An exception thrown by a mapping is
+ * rethrown to the consumer, cancelling all mappings in progress, as is an exception thrown by the source.
+ * <p>
+ * The executor is shut down when the source is exhausted, when a mapping or the source fails, and when the spliterator
+ * is closed. If none of these happen, e.g. after a short-circuiting operation on an unclosed stream, the executor is
+ * shut down once the spliterator is garbage collected.
+ * @param <T> the source element type
+ * @param <R> the mapped element type
+ */
+final class ConcurrentMappingSpliterator<T, R> implements Spliterator<R>, AutoCloseable {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Spliterator<T> source;
+    private final Function<? super T, ? extends R> mapper;
+    private final int maxConcurrency;
+    private final boolean ordered;
+
+    private final ArrayDeque<Future<R>> inProgress = new ArrayDeque<>();
+    private ExecutorService executor;
+    private LinkedBlockingQueue<Future<R>> completionQueue;
+    private CompletionService<R> completionService;
+    private Cleaner.Cleanable executorShutdown;
+    private boolean closed;
+
+    /**
+     * Creates a concurrent mapping spliterator.
+     * @param source the source spliterator.
+     * @param mapper the mapping function.
+     * @param maxConcurrency the maximum number of mappings in progress.
+     * @param ordered whether to return mapped elements in source order.
+     */
+    ConcurrentMappingSpliterator(Spliterator<T> source, Function<? super T, ? extends R> mapper, int maxConcurrency, boolean ordered) {
+        this.source = source;
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        if (closed) {
+            return false;
+        }
+        if (isNull(executor)) {
+            executor = ConcurrentExecutors.newMappingExecutor(maxConcurrency);
+            if (!ordered) {
+                // Ordered mode waits on the oldest future instead, so completed futures must not pile up in a queue
+                completionQueue = new LinkedBlockingQueue<>();
+                completionService = new ExecutorCompletionService<>(executor, completionQueue);
+            }
+            executorShutdown = CLEANER.register(this, shutdownOf(executor));
+        }
+
+        R result;
+        try {
+            while (inProgress.size() < maxConcurrency && source.tryAdvance(this::submit)) {
+                // Submitted by the condition
+            }
+
+            if (inProgress.isEmpty()) {
+                close();
+                return false;
+            }
+
+            result = nextResult();
+        } catch (RuntimeException | Error e) {
+            close();
+            throw e;
+        }
+
+        action.accept(result);
+        return true;
+    }
+
+    @Override
+    public long estimateSize() {
+        long sourceSize = source.estimateSize();
+        return sourceSize == Long.MAX_VALUE ? sourceSize : sourceSize + inProgress.size();
+    }
+
+    @Override
+    public int characteristics() {
+        return ordered ? source.characteristics() & Spliterator.ORDERED : 0;
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        return null;
+    }
+
+    /**
+     * Cancels all mappings in progress and shuts down the executor.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        inProgress.forEach(future -> future.cancel(true));
+        inProgress.clear();
+        if (executorShutdown != null) {
+            executorShutdown.clean();
+        }
+    }
+
+    private static Runnable shutdownOf(ExecutorService executor) {
+        // Must not reference the spliterator, or it would never become unreachable
+        return executor::shutdownNow;
+    }
+
+    private void submit(T element) {
+        // Capture the mapper rather than this, so running mappings do not keep the spliterator reachable
+        Function<? super T, ? extends R> function = mapper;
+        Callable<R> task = () -> function.apply(element);
+        inProgress.addLast(ordered ? executor.submit(task) : completionService.submit(task));
+    }
+
+    /**
+     * Returns the number of completed mappings waiting in the completion queue, for tests.
+     * @return the number of queued completions.
+     */
+    int queuedCompletions() {
+        return isNull(completionQueue) ? 0 : completionQueue.size();
+    }
+
+    private R nextResult() {
+        try {
+            Future<R> future;
+            if (ordered) {
+                future = inProgress.removeFirst();
+            } else {
+                future = completionService.take();
+                inProgress.remove(future);
+            }
+            return future.get();
+        } catch (ExecutionException e) {
+            close();
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new CompletionException("Interrupted while waiting for a mapped element", e);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        } else if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+}
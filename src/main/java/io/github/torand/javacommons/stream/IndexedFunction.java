@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+/**
+ * Represents a function accepting a value and its zero-based index, producing a result.
+ * This is the primitive index specialization of a function taking an {@link IndexedValue}.
+ * @param <T> the value type
+ * @param <R> the result type
+ */
+@FunctionalInterface
+public interface IndexedFunction<T, R> {
+
+    /**
+     * Applies this function to the specified value and index.
+     * @param value the value.
+     * @param index the zero-based index of the value.
+     * @return the function result.
+     */
+    R apply(T value, int index);
+}
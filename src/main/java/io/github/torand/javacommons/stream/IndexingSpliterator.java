@@ -20,18 +20,26 @@ import java.util.function.Consumer;
 
 /**
  * A custom spliterator keeping track of the index of each element in a stream.
+ * <p>
+ * If the source spliterator is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, this spliterator can be split
+ * for parallel processing, each part knowing the index of its first element. Otherwise, it is traversed sequentially.
  * @param <T> the element type
  */
 public class IndexingSpliterator<T> implements Spliterator<IndexedValue<T>> {
     private final Spliterator<T> source;
-    private int index = 0;
+    private int index;
 
     /**
      * Creates an {@link IndexingSpliterator} object
      * @param source the regular spliterator to be wrapped
      */
     public IndexingSpliterator(Spliterator<T> source) {
+        this(source, 0);
+    }
+
+    private IndexingSpliterator(Spliterator<T> source, int startIndex) {
         this.source = source;
+        this.index = startIndex;
     }
 
     @Override
@@ -40,6 +48,12 @@ public class IndexingSpliterator<T> implements Spliterator<IndexedValue<T>> {
             action.accept(new IndexedValue<>(item, index++)));
     }
 
+    @Override
+    public void forEachRemaining(Consumer<? super IndexedValue<T>> action) {
+        source.forEachRemaining(item ->
+            action.accept(new IndexedValue<>(item, index++)));
+    }
+
     @Override
     public long estimateSize() {
         return source.estimateSize();
@@ -47,11 +61,24 @@ public class IndexingSpliterator<T> implements Spliterator<IndexedValue<T>> {
 
     @Override
     public int characteristics() {
-        return source.characteristics();
+        // Indexed values are never null, and they are no longer sorted by the comparator of the source
+        return (source.characteristics() & ~Spliterator.SORTED) | Spliterator.NONNULL;
     }
 
     @Override
     public Spliterator<IndexedValue<T>> trySplit() {
-        throw new UnsupportedOperationException("Parallel processing not supported");
+        if (!source.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)) {
+            return null;
+        }
+
+        Spliterator<T> prefix = source.trySplit();
+        if (prefix == null) {
+            return null;
+        }
+
+        // The prefix covers the elements immediately preceding those remaining in the source
+        Spliterator<IndexedValue<T>> indexedPrefix = new IndexingSpliterator<>(prefix, index);
+        index += (int) prefix.getExactSizeIfKnown();
+        return indexedPrefix;
     }
-}
\ No newline at end of file
+}
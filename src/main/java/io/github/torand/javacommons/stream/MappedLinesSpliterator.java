@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator reading the lines of a file through memory-mapped regions, decoding each line directly from the mapped
+ * bytes. Lines are terminated by a line feed, a carriage return or a carriage return followed by a line feed.
+ * <p>
+ * The file is mapped one region at a time, so files larger than 2 GB are supported, but a single line cannot be
+ * longer than a region. The spliterator is split at the first line boundary after the middle of its remaining bytes.
+ * If line indexes are used, the lines of the prefix are counted when splitting.
+ * <p>
+ * Only charsets encoding line feeds and carriage returns as single bytes never occurring inside other characters are
+ * supported, i.e. UTF-8 and single byte charsets like US-ASCII and ISO-8859-1.
+ * @param <T> the element type
+ */
+final class MappedLinesSpliterator<T> implements Spliterator<T> {
+    static final int DEFAULT_REGION_SIZE = 1 << 30;
+    private static final long MIN_SPLIT_SIZE = 1 << 16;
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final LineMapper<? extends T> mapper;
+    private final boolean indexed;
+    private final int regionSize;
+
+    private long position;
+    private final long end;
+    private long index;
+
+    private MappedByteBuffer region;
+    private long regionStart;
+    private byte[] lineBuffer = new byte[256];
+
+    /**
+     * Creates a mapped lines spliterator.
+     * @param channel the file channel.
+     * @param charset the charset of the file.
+     * @param mapper the function creating an element from a line and its index.
+     * @param indexed whether line indexes are used, and must be kept correct when splitting.
+     * @param regionSize the maximum number of bytes mapped at a time.
+     * @throws IOException if the size of the file could not be read.
+     */
+    MappedLinesSpliterator(FileChannel channel, Charset charset, LineMapper<? extends T> mapper, boolean indexed, int regionSize) throws IOException {
+        this(channel, charset, mapper, indexed, regionSize, 0, channel.size(), 0);
+    }
+
+    private MappedLinesSpliterator(FileChannel channel, Charset charset, LineMapper<? extends T> mapper, boolean indexed, int regionSize,
+                                   long position, long end, long index) {
+        this.channel = channel;
+        this.charset = charset;
+        this.mapper = mapper;
+        this.indexed = indexed;
+        this.regionSize = regionSize;
+        this.position = position;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (position >= end) {
+            return false;
+        }
+
+        long lineStart = position;
+        long lineEnd = findLineEnd(lineStart);
+        if (lineEnd - lineStart > regionSize) {
+            throw new UncheckedIOException(new IOException("Line at byte %d is longer than %d bytes".formatted(lineStart, regionSize)));
+        }
+
+        int length = (int) (lineEnd - lineStart);
+        if (lineBuffer.length < length) {
+            lineBuffer = new byte[Math.max(length, lineBuffer.length * 2)];
+        }
+        ensureMapped(lineStart, length);
+        region.get((int) (lineStart - regionStart), lineBuffer, 0, length);
+        String line = new String(lineBuffer, 0, length, charset);
+
+        position = lineEnd < end ? afterTerminator(lineEnd) : end;
+        action.accept(mapper.apply(line, index++));
+        return true;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (end - position < MIN_SPLIT_SIZE) {
+            return null;
+        }
+
+        long middle = position + (end - position) / 2;
+        long terminator = findLineEnd(middle);
+        if (terminator >= end) {
+            return null;
+        }
+        long splitPosition = afterTerminator(terminator);
+        if (splitPosition >= end) {
+            return null;
+        }
+
+        Spliterator<T> prefix = new MappedLinesSpliterator<>(channel, charset, mapper, indexed, regionSize, position, splitPosition, index);
+        if (indexed) {
+            index += countLines(position, splitPosition);
+        }
+        position = splitPosition;
+        return prefix;
+    }
+
+    /**
+     * Returns the position of the line terminator of the line at the specified position, or the end position if the
+     * line is not terminated.
+     */
+    private long findLineEnd(long lineStart) {
+        long scanStart = lineStart;
+        while (scanStart < end) {
+            ensureMapped(scanStart, 1);
+            int offset = (int) (scanStart - regionStart);
+            int limit = region.limit();
+            for (int i = offset; i < limit; i++) {
+                byte b = region.get(i);
+                if (b == LF || b == CR) {
+                    return regionStart + i;
+                }
+            }
+            scanStart = regionStart + limit;
+        }
+        return end;
+    }
+
+    private long afterTerminator(long terminator) {
+        if (byteAt(terminator) == CR && terminator + 1 < end && byteAt(terminator + 1) == LF) {
+            return terminator + 2;
+        }
+        return terminator + 1;
+    }
+
+    private long countLines(long from, long to) {
+        // The range ends at a line boundary, so each line is terminated
+        long lines = 0;
+        long current = from;
+        while (current < to) {
+            current = afterTerminator(findLineEnd(current));
+            lines++;
+        }
+        return lines;
+    }
+
+    private byte byteAt(long position) {
+        ensureMapped(position, 1);
+        return region.get((int) (position - regionStart));
+    }
+
+    private void ensureMapped(long start, int length) {
+        if (region != null && start >= regionStart && start + length <= regionStart + region.limit()) {
+            return;
+        }
+
+        long size = Math.min(regionSize, end - start);
+        try {
+            region = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+            regionStart = start;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates an element from a line and its zero-based index, which may exceed the 'int' range in large files.
+     * @param <T> the element type
+     */
+    @FunctionalInterface
+    interface LineMapper<T> {
+
+        /**
+         * Creates an element from the specified line.
+         * @param line the line.
+         * @param index the zero-based line index.
+         * @return the element.
+         */
+        T apply(String line, long index);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A spliterator grouping consecutive elements of a source spliterator having equal keys into lists.
+ * Only the elements of the current run, and the first element of the next, are buffered.
+ * <p>
+ * As a run may span any split point, this spliterator is always traversed sequentially.
+ * @param <T> the element type
+ * @param <K> the key type
+ */
+final class RunGroupingSpliterator<T, K> implements Spliterator<List<T>> {
+    private final Spliterator<T> source;
+    private final Function<? super T, ? extends K> keyMapper;
+
+    private boolean hasPending;
+    private T pending;
+    private K pendingKey;
+
+    /**
+     * Creates a run grouping spliterator.
+     * @param source the source spliterator.
+     * @param keyMapper the function returning the key of an element.
+     */
+    RunGroupingSpliterator(Spliterator<T> source, Function<? super T, ? extends K> keyMapper) {
+        this.source = source;
+        this.keyMapper = keyMapper;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+        if (!hasPending && !source.tryAdvance(this::setPending)) {
+            return false;
+        }
+
+        List<T> run = new ArrayList<>();
+        K runKey = pendingKey;
+        run.add(pending);
+        hasPending = false;
+
+        while (source.tryAdvance(this::setPending)) {
+            if (!Objects.equals(runKey, pendingKey)) {
+                break;
+            }
+            run.add(pending);
+            hasPending = false;
+        }
+
+        if (!hasPending) {
+            pending = null;
+            pendingKey = null;
+        }
+
+        action.accept(run);
+        return true;
+    }
+
+    @Override
+    public long estimateSize() {
+        long sourceSize = source.estimateSize();
+        return hasPending && sourceSize != Long.MAX_VALUE ? sourceSize + 1 : sourceSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return (source.characteristics() & Spliterator.ORDERED) | Spliterator.NONNULL;
+    }
+
+    @Override
+    public Spliterator<List<T>> trySplit() {
+        return null;
+    }
+
+    private void setPending(T element) {
+        pending = element;
+        pendingKey = keyMapper.apply(element);
+        hasPending = true;
+    }
+}
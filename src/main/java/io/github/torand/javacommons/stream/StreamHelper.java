@@ -15,21 +15,43 @@
  */
 package io.github.torand.javacommons.stream;
 
-import java.util.Collections;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Set;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static io.github.torand.javacommons.collection.CollectionHelper.reversedView;
 import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Helper functions for streams
  */
 public final class StreamHelper {
+    private static final Set<Charset> MAPPABLE_CHARSETS = Set.of(StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1);
+
     private StreamHelper() {}
 
     /**
@@ -119,34 +141,573 @@ public final class StreamHelper {
         );
     }
 
+    /**
+     * Performs an action for each element in the specified iterable, passing the element and its zero-based index.
+     * No objects are allocated per element. If the iterable is null, no action is performed.
+     * @param iterable the iterable.
+     * @param action the action accepting an element and its index.
+     * @param <T> the element type.
+     */
+    public static <T> void forEachIndexed(Iterable<T> iterable, ObjIntConsumer<? super T> action) {
+        requireNonNull(action, "action is null");
+        if (isNull(iterable)) {
+            return;
+        }
+
+        if (iterable instanceof List<T> list && list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                action.accept(list.get(i), i);
+            }
+        } else {
+            int index = 0;
+            for (T item : iterable) {
+                action.accept(item, index++);
+            }
+        }
+    }
+
+    /**
+     * Performs an action for each element in the specified array, passing the element and its zero-based index.
+     * No objects are allocated per element. If the array is null, no action is performed.
+     * @param items the items.
+     * @param action the action accepting an item and its index.
+     * @param <T> the item type.
+     */
+    public static <T> void forEachIndexed(T[] items, ObjIntConsumer<? super T> action) {
+        requireNonNull(action, "action is null");
+        if (isNull(items)) {
+            return;
+        }
+
+        for (int i = 0; i < items.length; i++) {
+            action.accept(items[i], i);
+        }
+    }
+
+    /**
+     * Performs an action for each element in the specified stream, in encounter order, passing the element and its zero-based index.
+     * No objects are allocated per element. If the stream is null, no action is performed.
+     * @param stream the stream.
+     * @param action the action accepting an element and its index.
+     * @param <T> the element type.
+     */
+    public static <T> void forEachIndexed(Stream<T> stream, ObjIntConsumer<? super T> action) {
+        requireNonNull(action, "action is null");
+        if (isNull(stream)) {
+            return;
+        }
+
+        stream.sequential().forEachOrdered(new IndexedConsumer<>(action));
+    }
+
+    /**
+     * Returns a stream of the elements in the specified list mapped by a function receiving each element and its zero-based index.
+     * For {@link RandomAccess} lists the stream is backed by an {@link IntStream} of indices, allocating no {@link IndexedValue} objects.
+     * If the list is null, an empty stream is returned.
+     * @param list the list.
+     * @param mapper the function mapping an element and its index.
+     * @return the stream of mapped elements.
+     * @param <T> the element type.
+     * @param <R> the mapped element type.
+     */
+    public static <T, R> Stream<R> mapIndexed(List<T> list, IndexedFunction<? super T, ? extends R> mapper) {
+        requireNonNull(mapper, "mapper is null");
+        if (isNull(list)) {
+            return Stream.empty();
+        }
+
+        if (list instanceof RandomAccess) {
+            return IntStream.range(0, list.size()).mapToObj(i -> mapper.apply(list.get(i), i));
+        } else {
+            return withIndex(list.stream()).map(e -> mapper.apply(e.value(), e.index()));
+        }
+    }
+
+    /**
+     * Returns a stream of the elements in the specified array mapped by a function receiving each element and its zero-based index.
+     * The stream is backed by an {@link IntStream} of indices, allocating no {@link IndexedValue} objects.
+     * If the array is null, an empty stream is returned.
+     * @param items the items.
+     * @param mapper the function mapping an item and its index.
+     * @return the stream of mapped items.
+     * @param <T> the item type.
+     * @param <R> the mapped item type.
+     */
+    public static <T, R> Stream<R> mapIndexed(T[] items, IndexedFunction<? super T, ? extends R> mapper) {
+        requireNonNull(mapper, "mapper is null");
+        if (isNull(items)) {
+            return Stream.empty();
+        }
+
+        return IntStream.range(0, items.length).mapToObj(i -> mapper.apply(items[i], i));
+    }
+
+    /**
+     * Creates a stream of the lines in the specified UTF-8 encoded file.
+     * See {@link #lines(Path, Charset)}.
+     * @param path the file path.
+     * @return the stream of lines.
+     * @throws IOException if the file could not be opened.
+     */
+    public static Stream<String> lines(Path path) throws IOException {
+        return lines(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a stream of the lines in the specified file. Lines are terminated by a line feed, a carriage return or
+     * a carriage return followed by a line feed.
+     * <p>
+     * Regular files encoded in UTF-8, US-ASCII or ISO-8859-1 are memory-mapped, decoding each line directly from the
+     * mapped bytes, and the stream is split on line boundaries when processed in parallel. Malformed input is replaced
+     * rather than reported. Other files and charsets are read with {@link Files#lines(Path, Charset)}.
+     * <p>
+     * The stream should be closed after use, e.g. with a try-with-resources statement, to close the file.
+     * @param path the file path.
+     * @param charset the charset of the file.
+     * @return the stream of lines.
+     * @throws IOException if the file could not be opened.
+     */
+    public static Stream<String> lines(Path path, Charset charset) throws IOException {
+        Optional<Stream<String>> mapped = mappedLines(path, charset, (line, index) -> line, false);
+        return mapped.isPresent() ? mapped.get() : Files.lines(path, charset);
+    }
+
+    /**
+     * Creates a stream of the lines in the specified UTF-8 encoded file with lines indexed.
+     * See {@link #lines(Path, Charset)}.
+     * @param path the file path.
+     * @return the stream of indexed lines.
+     * @throws IOException if the file could not be opened.
+     */
+    public static Stream<IndexedValue<String>> linesWithIndex(Path path) throws IOException {
+        return linesWithIndex(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a stream of the lines in the specified file with lines indexed, i.e. zero-based line numbers.
+     * When processed in parallel, the lines preceding each split point are counted to index the lines following it.
+     * Lines are counted as 'long' values, but as an {@link IndexedValue} holds an 'int' index, reaching a line beyond
+     * index {@link Integer#MAX_VALUE} throws an ArithmeticException instead of wrapping to a negative index.
+     * See {@link #lines(Path, Charset)}.
+     * @param path the file path.
+     * @param charset the charset of the file.
+     * @return the stream of indexed lines.
+     * @throws IOException if the file could not be opened.
+     */
+    public static Stream<IndexedValue<String>> linesWithIndex(Path path, Charset charset) throws IOException {
+        Optional<Stream<IndexedValue<String>>> mapped = mappedLines(path, charset, (line, index) -> new IndexedValue<>(line, Math.toIntExact(index)), true);
+        if (mapped.isPresent()) {
+            return mapped.get();
+        }
+
+        Stream<String> lines = Files.lines(path, charset);
+        return withIndex(lines).onClose(lines::close);
+    }
+
     /**
      * Creates a concatenated stream from the elements in the specified iterables.
+     * If both iterables report their size, so does the stream.
      * @param first the first iterable.
      * @param second the second iterable.
      * @return the stream.
      * @param <T> the element type.
      */
     public static <T> Stream<T> concatAndStream(Iterable<T> first, Iterable<T> second) {
-        return Stream.concat(streamSafely(first), streamSafely(second));
+        return StreamSupport.stream(new ConcatSpliterator<>(List.of(spliteratorOf(first), spliteratorOf(second))), false);
     }
 
     /**
      * Concatenates an arbitrary number of streams.
+     * The elements are traversed lazily. If all streams are sized, so is the concatenated stream, and it is split on
+     * stream boundaries when processed in parallel. The concatenated stream is parallel if any of the streams are
+     * parallel. Each stream is closed once its elements are consumed, like {@link Stream#flatMap} does, and closing
+     * the concatenated stream closes any streams not yet closed, e.g. after a short-circuiting operation.
      * @param streams the streams to concatenate.
      * @return the concatenates streams.
      * @param <T> the stream value type.
      */
     public static <T> Stream<T> concatStreams(Stream<T>... streams) {
-        return Stream.of(streams).flatMap(Function.identity());
+        requireNonNull(streams, "streams is null");
+
+        List<Spliterator<T>> spliterators = new ArrayList<>(streams.length);
+        List<Runnable> closeActions = new ArrayList<>(streams.length);
+        boolean parallel = false;
+        for (Stream<T> stream : streams) {
+            spliterators.add(stream.spliterator());
+            closeActions.add(stream::close);
+            parallel |= stream.isParallel();
+        }
+
+        return StreamSupport.stream(new ConcatSpliterator<>(spliterators, closeActions), parallel)
+            .onClose(() -> closeAll(streams));
+    }
+
+    /**
+     * Groups the elements of the specified stream into lists of a fixed size. The last list may contain fewer elements.
+     * The elements are processed lazily, buffering only the current chunk. A parallel stream of a sized source is split
+     * on chunk boundaries.
+     * @param stream the stream.
+     * @param size the number of elements in each chunk.
+     * @return the stream of chunks.
+     * @param <T> the element type.
+     */
+    public static <T> Stream<List<T>> chunked(Stream<T> stream, int size) {
+        requireNonNull(stream, "stream is null");
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive, was %d".formatted(size));
+        }
+
+        return StreamSupport.stream(new WindowingSpliterator<>(stream.spliterator(), size, size, true), stream.isParallel())
+            .onClose(stream::close);
+    }
+
+    /**
+     * Groups the elements of the specified stream into sliding windows of a fixed size, starting a new window every
+     * {@code step} elements. Trailing elements not filling a complete window are ignored.
+     * The elements are processed lazily, buffering only the current window. A parallel stream of a sized source is
+     * split, copying the elements of windows spanning the split point.
+     * @param stream the stream.
+     * @param size the number of elements in each window.
+     * @param step the number of elements between the start of consecutive windows.
+     * @return the stream of windows.
+     * @param <T> the element type.
+     */
+    public static <T> Stream<List<T>> windowed(Stream<T> stream, int size, int step) {
+        requireNonNull(stream, "stream is null");
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive, was %d".formatted(size));
+        }
+        if (step <= 0) {
+            throw new IllegalArgumentException("step must be positive, was %d".formatted(step));
+        }
+
+        return StreamSupport.stream(new WindowingSpliterator<>(stream.spliterator(), size, step, false), stream.isParallel())
+            .onClose(stream::close);
+    }
+
+    /**
+     * Groups consecutive elements of the specified stream having equal keys into lists.
+     * The elements are processed lazily and sequentially, buffering only the current run.
+     * @param stream the stream.
+     * @param keyMapper the function returning the key of an element.
+     * @return the stream of runs.
+     * @param <T> the element type.
+     * @param <K> the key type.
+     */
+    public static <T, K> Stream<List<T>> groupRuns(Stream<T> stream, Function<? super T, ? extends K> keyMapper) {
+        requireNonNull(stream, "stream is null");
+        requireNonNull(keyMapper, "keyMapper is null");
+
+        return StreamSupport.stream(new RunGroupingSpliterator<>(stream.spliterator(), keyMapper), false)
+            .onClose(stream::close);
+    }
+
+    /**
+     * Maps the elements of the specified stream concurrently, returning the mapped elements in the order of the stream.
+     * Intended for I/O bound mappings, which run on virtual threads on Java 21 and later, and on a bounded pool of
+     * platform threads otherwise.
+     * <p>
+     * At most {@code maxConcurrency} mappings are in progress at any time, and elements of the stream are consumed only
+     * as mapped elements are consumed. An exception thrown by a mapping is rethrown by the terminal operation.
+     * Closing the returned stream cancels mappings in progress and closes the specified stream.
+     * <p>
+     * <b>Close the returned stream, e.g. with try-with-resources, unless it is consumed entirely.</b> After a
+     * short-circuiting operation like {@code findFirst()}, {@code limit()} or {@code anyMatch()}, up to
+     * {@code maxConcurrency} mappings keep running, and their threads are only released when the stream is closed
+     * or garbage collected.
+     * @param stream the stream.
+     * @param mapper the mapping function.
+     * @param maxConcurrency the maximum number of mappings in progress.
+     * @return the stream of mapped elements.
+     * @param <T> the element type.
+     * @param <R> the mapped element type.
+     */
+    public static <T, R> Stream<R> mapConcurrent(Stream<T> stream, Function<? super T, ? extends R> mapper, int maxConcurrency) {
+        return mapConcurrent(stream, mapper, maxConcurrency, true);
+    }
+
+    /**
+     * Maps the elements of the specified stream concurrently, returning each mapped element as soon as its mapping
+     * completes. Otherwise identical to {@link #mapConcurrent(Stream, Function, int)}.
+     * @param stream the stream.
+     * @param mapper the mapping function.
+     * @param maxConcurrency the maximum number of mappings in progress.
+     * @return the stream of mapped elements.
+     * @param <T> the element type.
+     * @param <R> the mapped element type.
+     */
+    public static <T, R> Stream<R> mapConcurrentUnordered(Stream<T> stream, Function<? super T, ? extends R> mapper, int maxConcurrency) {
+        return mapConcurrent(stream, mapper, maxConcurrency, false);
+    }
+
+    /**
+     * Combines the elements of the specified streams pairwise, ending with the shorter stream.
+     * If both streams are sized, the combined stream is split in sync when processed in parallel.
+     * The combined stream is parallel if any of the streams are parallel, and closing it closes both streams.
+     * @param first the first stream.
+     * @param second the second stream.
+     * @param combiner the function combining an element of each stream.
+     * @return the stream of combined elements.
+     * @param <A> the element type of the first stream.
+     * @param <B> the element type of the second stream.
+     * @param <R> the combined element type.
+     */
+    public static <A, B, R> Stream<R> zip(Stream<A> first, Stream<B> second, BiFunction<? super A, ? super B, ? extends R> combiner) {
+        requireNonNull(first, "first is null");
+        requireNonNull(second, "second is null");
+        requireNonNull(combiner, "combiner is null");
+
+        return StreamSupport.stream(new ZipSpliterator<A, B, R>(first.spliterator(), second.spliterator(), combiner), first.isParallel() || second.isParallel())
+            .onClose(() -> closeAll(new Stream<?>[] {first, second}));
+    }
+
+    /**
+     * Combines the elements of the specified iterables pairwise, ending with the shorter iterable.
+     * Random access lists are accessed by index. If an iterable is null, an empty stream is returned.
+     * @param first the first iterable.
+     * @param second the second iterable.
+     * @param combiner the function combining an element of each iterable.
+     * @return the stream of combined elements.
+     * @param <A> the element type of the first iterable.
+     * @param <B> the element type of the second iterable.
+     * @param <R> the combined element type.
+     */
+    public static <A, B, R> Stream<R> zip(Iterable<A> first, Iterable<B> second, BiFunction<? super A, ? super B, ? extends R> combiner) {
+        requireNonNull(combiner, "combiner is null");
+        if (isNull(first) || isNull(second)) {
+            return Stream.empty();
+        }
+
+        if (first instanceof List<A> firstList && first instanceof RandomAccess
+                && second instanceof List<B> secondList && second instanceof RandomAccess) {
+            return IntStream.range(0, Math.min(firstList.size(), secondList.size()))
+                .<R>mapToObj(i -> combiner.apply(firstList.get(i), secondList.get(i)));
+        }
+        return StreamSupport.stream(new ZipSpliterator<A, B, R>(first.spliterator(), second.spliterator(), combiner), false);
+    }
+
+    /**
+     * Combines the elements of the specified arrays pairwise, ending with the shorter array.
+     * If an array is null, an empty stream is returned.
+     * @param first the first array.
+     * @param second the second array.
+     * @param combiner the function combining an element of each array.
+     * @return the stream of combined elements.
+     * @param <A> the element type of the first array.
+     * @param <B> the element type of the second array.
+     * @param <R> the combined element type.
+     */
+    public static <A, B, R> Stream<R> zip(A[] first, B[] second, BiFunction<? super A, ? super B, ? extends R> combiner) {
+        requireNonNull(combiner, "combiner is null");
+        if (isNull(first) || isNull(second)) {
+            return Stream.empty();
+        }
+
+        return IntStream.range(0, Math.min(first.length, second.length))
+            .<R>mapToObj(i -> combiner.apply(first[i], second[i]));
+    }
+
+    /**
+     * Performs an action for each pair of elements of the specified iterables, ending with the shorter iterable.
+     * Random access lists are accessed by index. If an iterable is null, nothing is done.
+     * @param first the first iterable.
+     * @param second the second iterable.
+     * @param action the action to perform on an element of each iterable.
+     * @param <A> the element type of the first iterable.
+     * @param <B> the element type of the second iterable.
+     */
+    public static <A, B> void forEachZipped(Iterable<A> first, Iterable<B> second, BiConsumer<? super A, ? super B> action) {
+        requireNonNull(action, "action is null");
+        if (isNull(first) || isNull(second)) {
+            return;
+        }
+
+        if (first instanceof List<A> firstList && first instanceof RandomAccess
+                && second instanceof List<B> secondList && second instanceof RandomAccess) {
+            for (int i = 0, size = Math.min(firstList.size(), secondList.size()); i < size; i++) {
+                action.accept(firstList.get(i), secondList.get(i));
+            }
+        } else {
+            Iterator<A> firstIterator = first.iterator();
+            Iterator<B> secondIterator = second.iterator();
+            while (firstIterator.hasNext() && secondIterator.hasNext()) {
+                action.accept(firstIterator.next(), secondIterator.next());
+            }
+        }
+    }
+
+    /**
+     * Performs an action for each pair of elements of the specified arrays, ending with the shorter array.
+     * If an array is null, nothing is done.
+     * @param first the first array.
+     * @param second the second array.
+     * @param action the action to perform on an element of each array.
+     * @param <A> the element type of the first array.
+     * @param <B> the element type of the second array.
+     */
+    public static <A, B> void forEachZipped(A[] first, B[] second, BiConsumer<? super A, ? super B> action) {
+        requireNonNull(action, "action is null");
+        if (isNull(first) || isNull(second)) {
+            return;
+        }
+
+        for (int i = 0, size = Math.min(first.length, second.length); i < size; i++) {
+            action.accept(first[i], second[i]);
+        }
+    }
+
+    /**
+     * Creates a stream from the elements in the specified list in reversed order, without copying the list.
+     * For random access lists, the stream can be split for parallel processing.
+     * If the list is null, an empty stream is returned.
+     * @param list the list.
+     * @return the stream.
+     * @param <T> the element type.
+     */
+    public static <T> Stream<T> streamReversed(List<T> list) {
+        if (isNull(list)) {
+            return Stream.empty();
+        }
+        return reversedView(list).stream();
     }
 
     /**
      * Returns a {@link Collector} producing a list with elements in reversed order.
+     * Elements are prepended as they are accumulated, and partial results of parallel streams are combined by
+     * prepending the later part.
      * @return the {@link Collector} object.
      * @param <T> the value type.
      */
     public static <T> Collector<T, ?, List<T>> toReversedList() {
-        return Collectors.collectingAndThen(Collectors.toList(), list -> {
-            Collections.reverse(list); return list;});
+        return Collector.<T, PrependBuffer<T>, List<T>>of(
+            PrependBuffer::new,
+            PrependBuffer::addFirst,
+            PrependBuffer::addAllFirst,
+            PrependBuffer::toList);
+    }
+
+    private static <T, R> Stream<R> mapConcurrent(Stream<T> stream, Function<? super T, ? extends R> mapper, int maxConcurrency, boolean ordered) {
+        requireNonNull(stream, "stream is null");
+        requireNonNull(mapper, "mapper is null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive, was %d".formatted(maxConcurrency));
+        }
+
+        ConcurrentMappingSpliterator<T, R> spliterator = new ConcurrentMappingSpliterator<>(stream.spliterator(), mapper, maxConcurrency, ordered);
+        return StreamSupport.stream(spliterator, false)
+            .onClose(spliterator::close)
+            .onClose(stream::close);
+    }
+
+    private static <T> Optional<Stream<T>> mappedLines(Path path, Charset charset, MappedLinesSpliterator.LineMapper<T> mapper, boolean indexed) throws IOException {
+        requireNonNull(path, "path is null");
+        requireNonNull(charset, "charset is null");
+
+        if (!MAPPABLE_CHARSETS.contains(charset) || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            Spliterator<T> spliterator = new MappedLinesSpliterator<>(channel, charset, mapper, indexed, MappedLinesSpliterator.DEFAULT_REGION_SIZE);
+            return Optional.of(StreamSupport.stream(spliterator, false).onClose(() -> closeChannel(channel)));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void closeChannel(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> Spliterator<T> spliteratorOf(Iterable<T> iterable) {
+        return isNull(iterable) ? Spliterators.emptySpliterator() : iterable.spliterator();
+    }
+
+    /**
+     * Closes all the specified streams, even if closing one of them fails. The first exception thrown is rethrown,
+     * with any subsequent ones added as suppressed exceptions.
+     */
+    private static void closeAll(Stream<?>[] streams) {
+        RuntimeException failure = null;
+        for (Stream<?> stream : streams) {
+            try {
+                stream.close();
+            } catch (RuntimeException e) {
+                if (isNull(failure)) {
+                    failure = e;
+                } else if (failure != e) {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * A consumer passing each accepted element and a running index to an {@link ObjIntConsumer}.
+     * @param <T> the element type.
+     */
+    private static final class IndexedConsumer<T> implements Consumer<T> {
+        private final ObjIntConsumer<? super T> action;
+        private int index = 0;
+
+        private IndexedConsumer(ObjIntConsumer<? super T> action) {
+            this.action = action;
+        }
+
+        @Override
+        public void accept(T item) {
+            action.accept(item, index++);
+        }
+    }
+
+    /**
+     * A buffer filled from the end of an array, used to collect elements in reversed order without a final reversal.
+     * @param <T> the element type.
+     */
+    private static final class PrependBuffer<T> {
+        private Object[] elements = new Object[16];
+        private int head = elements.length;
+
+        private void addFirst(T element) {
+            if (head == 0) {
+                grow(1);
+            }
+            elements[--head] = element;
+        }
+
+        private PrependBuffer<T> addAllFirst(PrependBuffer<T> other) {
+            int count = other.elements.length - other.head;
+            if (head < count) {
+                grow(count);
+            }
+            head -= count;
+            System.arraycopy(other.elements, other.head, elements, head, count);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<T> toList() {
+            List<T> list = new ArrayList<>(elements.length - head);
+            list.addAll((List<T>) Arrays.asList(elements).subList(head, elements.length));
+            return list;
+        }
+
+        private void grow(int minGrowth) {
+            int size = elements.length - head;
+            int newLength = Math.max(size + minGrowth, size * 2);
+            Object[] grown = new Object[newLength];
+            System.arraycopy(elements, head, grown, newLength - size, size);
+            elements = grown;
+            head = newLength - size;
+        }
     }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator grouping the elements of a source spliterator into fixed size windows, starting a new window every
+ * {@code step} elements. Only the elements of the current window are buffered.
+ * <p>
+ * If the source spliterator is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, this spliterator can be split
+ * before traversal. Elements of windows spanning the split point are copied to both parts, so each window is emitted
+ * exactly once.
+ * @param <T> the element type
+ */
+final class WindowingSpliterator<T> implements Spliterator<List<T>> {
+    private final int size;
+    private final int step;
+    private final boolean partial;
+
+    private List<T> head;
+    private final Spliterator<T> source;
+    private List<T> tail;
+    private long skip;
+    private long maxWindows;
+
+    private final ArrayDeque<T> window;
+    private int headIndex;
+    private int tailIndex;
+    private boolean started;
+    private boolean exhausted;
+    private long emitted;
+    private T current;
+
+    /**
+     * Creates a windowing spliterator.
+     * @param source the source spliterator.
+     * @param size the number of elements in each window.
+     * @param step the number of elements between the start of consecutive windows.
+     * @param partial whether to emit a last window with fewer than {@code size} elements.
+     */
+    WindowingSpliterator(Spliterator<T> source, int size, int step, boolean partial) {
+        this(Collections.emptyList(), source, Collections.emptyList(), 0, Long.MAX_VALUE, size, step, partial);
+    }
+
+    private WindowingSpliterator(List<T> head, Spliterator<T> source, List<T> tail, long skip, long maxWindows, int size, int step, boolean partial) {
+        this.size = size;
+        this.step = step;
+        this.partial = partial;
+        this.head = head;
+        this.source = source;
+        this.tail = tail;
+        this.skip = skip;
+        this.window = new ArrayDeque<>(Math.min(size, 1024));
+
+        long exactSize = exactSequenceSize();
+        this.maxWindows = exactSize < 0 ? maxWindows : Math.min(maxWindows, windowCount(exactSize - skip));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+        if (emitted >= maxWindows) {
+            return false;
+        }
+
+        if (!started) {
+            started = true;
+            skipElements(skip);
+        } else {
+            int dropped = (int) Math.min(step, window.size());
+            for (int i = 0; i < dropped; i++) {
+                window.removeFirst();
+            }
+            skipElements((long) step - dropped);
+        }
+
+        while (window.size() < size && nextElement()) {
+            window.addLast(current);
+        }
+        current = null;
+
+        if (window.size() == size || (partial && !window.isEmpty())) {
+            emitted++;
+            action.accept(new ArrayList<>(window));
+            return true;
+        }
+
+        maxWindows = emitted;
+        return false;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (hasCharacteristics(Spliterator.SIZED)) {
+            return maxWindows - emitted;
+        }
+        long sourceSize = source.estimateSize();
+        return sourceSize == Long.MAX_VALUE ? Long.MAX_VALUE : sourceSize / step + 1;
+    }
+
+    @Override
+    public int characteristics() {
+        // Windows are new, never null lists, which are neither sorted nor distinct by the criteria of the source
+        int sizedCharacteristics = source.characteristics() & (Spliterator.SIZED | Spliterator.SUBSIZED);
+        return (source.characteristics() & Spliterator.ORDERED) | Spliterator.NONNULL
+            | (sizedCharacteristics == (Spliterator.SIZED | Spliterator.SUBSIZED) ? sizedCharacteristics : 0);
+    }
+
+    @Override
+    public Spliterator<List<T>> trySplit() {
+        if (started || !hasCharacteristics(Spliterator.SIZED) || maxWindows < 2) {
+            return null;
+        }
+
+        Spliterator<T> prefix = source.trySplit();
+        if (prefix == null) {
+            return null;
+        }
+
+        // Windows starting before the end of the prefix source belong to the prefix, which borrows the remaining
+        // elements of its last window from the suffix
+        long prefixEnd = head.size() + prefix.getExactSizeIfKnown();
+        long prefixWindows = Math.min(maxWindows, Math.max(0, ceilDiv(prefixEnd - skip, step)));
+        long prefixElements = prefixWindows == 0 ? 0 : skip + (prefixWindows - 1) * step + size;
+        List<T> borrowed = takeElements(Math.max(0, prefixElements - prefixEnd));
+
+        Spliterator<List<T>> prefixWindowing = new WindowingSpliterator<>(head, prefix, borrowed, skip, prefixWindows, size, step, partial);
+
+        head = borrowed;
+        skip = skip + prefixWindows * step - prefixEnd;
+        maxWindows -= prefixWindows;
+
+        return prefixWindowing;
+    }
+
+    private boolean nextElement() {
+        if (exhausted) {
+            return false;
+        } else if (headIndex < head.size()) {
+            current = head.get(headIndex++);
+            return true;
+        } else if (source.tryAdvance(element -> current = element)) {
+            return true;
+        } else if (tailIndex < tail.size()) {
+            current = tail.get(tailIndex++);
+            return true;
+        }
+
+        exhausted = true;
+        return false;
+    }
+
+    private void skipElements(long count) {
+        for (long i = 0; i < count && nextElement(); i++) {
+            current = null;
+        }
+    }
+
+    private List<T> takeElements(long count) {
+        // Taken from the remaining source and tail, as the head is never consumed before traversal starts
+        List<T> taken = new ArrayList<>((int) Math.min(count, size));
+        while (taken.size() < count && source.tryAdvance(taken::add)) {
+            // Advanced by the condition
+        }
+        while (taken.size() < count && tailIndex < tail.size()) {
+            taken.add(tail.get(tailIndex++));
+        }
+        if (tailIndex > 0) {
+            tail = tail.subList(tailIndex, tail.size());
+            tailIndex = 0;
+        }
+        return taken;
+    }
+
+    private long exactSequenceSize() {
+        long sourceSize = source.getExactSizeIfKnown();
+        return sourceSize < 0 ? -1 : head.size() + sourceSize + tail.size();
+    }
+
+    private long windowCount(long elementCount) {
+        if (elementCount <= 0) {
+            return 0;
+        } else if (partial) {
+            return ceilDiv(elementCount, step);
+        }
+        return elementCount < size ? 0 : (elementCount - size) / step + 1;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+}
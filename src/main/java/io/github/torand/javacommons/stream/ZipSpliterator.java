@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator combining the elements of two source spliterators pairwise, ending with the shorter source.
+ * <p>
+ * If both sources are {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, this spliterator is split by splitting
+ * both sources. If the prefixes differ in size by a few elements, the shorter prefix is extended with elements taken
+ * from its source. Otherwise, the prefixes are joined back with their sources, and this spliterator is no longer split.
+ * @param <A> the element type of the first source
+ * @param <B> the element type of the second source
+ * @param <R> the combined element type
+ */
+final class ZipSpliterator<A, B, R> implements Spliterator<R> {
+    private static final long MAX_REBALANCE_SIZE = 1 << 12;
+
+    private Spliterator<A> first;
+    private Spliterator<B> second;
+    private final BiFunction<? super A, ? super B, ? extends R> combiner;
+    private boolean splittable = true;
+    private A current;
+
+    /**
+     * Creates a zipping spliterator.
+     * @param first the first source spliterator.
+     * @param second the second source spliterator.
+     * @param combiner the function combining an element of each source.
+     */
+    ZipSpliterator(Spliterator<A> first, Spliterator<B> second, BiFunction<? super A, ? super B, ? extends R> combiner) {
+        this.first = first;
+        this.second = second;
+        this.combiner = combiner;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        if (!first.tryAdvance(element -> current = element)) {
+            return false;
+        }
+
+        boolean advanced = second.tryAdvance(element -> action.accept(combiner.apply(current, element)));
+        current = null;
+        return advanced;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(first.estimateSize(), second.estimateSize());
+    }
+
+    @Override
+    public int characteristics() {
+        return first.characteristics() & second.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        if (!splittable || !hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)) {
+            return null;
+        }
+
+        Spliterator<A> firstPrefix = first.trySplit();
+        if (firstPrefix == null) {
+            return null;
+        }
+        Spliterator<B> secondPrefix = second.trySplit();
+        if (secondPrefix == null) {
+            first = rejoin(firstPrefix, first);
+            splittable = false;
+            return null;
+        }
+
+        long difference = firstPrefix.getExactSizeIfKnown() - secondPrefix.getExactSizeIfKnown();
+        if (Math.abs(difference) > MAX_REBALANCE_SIZE) {
+            first = rejoin(firstPrefix, first);
+            second = rejoin(secondPrefix, second);
+            splittable = false;
+            return null;
+        } else if (difference < 0) {
+            firstPrefix = extend(firstPrefix, first, -difference);
+        } else if (difference > 0) {
+            secondPrefix = extend(secondPrefix, second, difference);
+        }
+
+        return new ZipSpliterator<>(firstPrefix, secondPrefix, combiner);
+    }
+
+    private static <T> Spliterator<T> rejoin(Spliterator<T> prefix, Spliterator<T> source) {
+        return new ConcatSpliterator<>(List.of(prefix, source));
+    }
+
+    private static <T> Spliterator<T> extend(Spliterator<T> prefix, Spliterator<T> source, long count) {
+        List<T> taken = new ArrayList<>((int) count);
+        while (taken.size() < count && source.tryAdvance(taken::add)) {
+            // Advanced by the condition
+        }
+        return new ConcatSpliterator<>(List.of(prefix, taken.spliterator()));
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors running concurrent stream mappings.
+ * <p>
+ * This implementation starts a virtual thread per mapping task. The number of concurrent tasks is bounded by the caller.
+ */
+final class ConcurrentExecutors {
+
+    private ConcurrentExecutors() {}
+
+    /**
+     * Creates an executor for running up to the specified number of mapping tasks concurrently.
+     * @param maxConcurrency the maximum number of concurrent tasks.
+     * @return the executor.
+     */
+    static ExecutorService newMappingExecutor(int maxConcurrency) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mapConcurrent-", 0).factory());
+    }
+}
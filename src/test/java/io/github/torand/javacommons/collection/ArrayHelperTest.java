@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static io.github.torand.javacommons.collection.ArrayHelper.PARALLEL_THRESHOLD;
+import static io.github.torand.javacommons.collection.ArrayHelper.concat;
+import static io.github.torand.javacommons.collection.ArrayHelper.contains;
+import static io.github.torand.javacommons.collection.ArrayHelper.containsSorted;
+import static io.github.torand.javacommons.collection.ArrayHelper.distinct;
+import static io.github.torand.javacommons.collection.ArrayHelper.histogram;
+import static io.github.torand.javacommons.collection.ArrayHelper.indexOf;
+import static io.github.torand.javacommons.collection.ArrayHelper.intersectSorted;
+import static io.github.torand.javacommons.collection.ArrayHelper.max;
+import static io.github.torand.javacommons.collection.ArrayHelper.min;
+import static io.github.torand.javacommons.collection.ArrayHelper.reverse;
+import static io.github.torand.javacommons.collection.ArrayHelper.sum;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArrayHelperTest {
+    private static final int LARGE = PARALLEL_THRESHOLD * 3 + 17;
+
+    @Test
+    void sumMinMax_shouldAggregateSmallAndLargeArrays() {
+        int[] small = {4, -2, 9, 1, 7};
+        int[] large = IntStream.range(0, LARGE).map(i -> i % 1000 - 500).toArray();
+
+        assertThat(sum(small)).isEqualTo(19);
+        assertThat(min(small)).isEqualTo(-2);
+        assertThat(max(small)).isEqualTo(9);
+        assertThat(sum(large)).isEqualTo(IntStream.of(large).asLongStream().sum());
+        assertThat(min(large)).isEqualTo(-500);
+        assertThat(max(large)).isEqualTo(499);
+        assertThat(sum(new long[] {Integer.MAX_VALUE, Integer.MAX_VALUE})).isEqualTo(2L * Integer.MAX_VALUE);
+        assertThatThrownBy(() -> min(new long[0])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void indexOf_shouldReturnFirstOccurrence() {
+        long[] large = LongStream.range(0, LARGE).toArray();
+        large[LARGE - 1] = 5;
+
+        assertThat(indexOf(large, 5)).isEqualTo(5);
+        assertThat(indexOf(large, LARGE - 2)).isEqualTo(LARGE - 2);
+        assertThat(indexOf(large, -1)).isEqualTo(-1);
+        assertThat(contains(new int[] {1, 2, 3}, 3)).isTrue();
+        assertThat(containsSorted(new int[] {1, 2, 3}, 4)).isFalse();
+    }
+
+    @Test
+    void intersectSorted_shouldReturnDistinctCommonValues() {
+        int[] first = {1, 2, 2, 3, 5, 8, 13};
+        int[] second = {2, 2, 3, 4, 8, 9};
+        int[] many = IntStream.range(0, 10_000).map(i -> i * 2).toArray();
+
+        assertThat(intersectSorted(first, second)).containsExactly(2, 3, 8);
+        assertThat(intersectSorted(new int[] {3, 3, 10, 10_001, 19_998}, many)).containsExactly(10, 19_998);
+        assertThat(intersectSorted(many, new int[0])).isEmpty();
+    }
+
+    @Test
+    void reverse_shouldReverseInPlace() {
+        int[] odd = {1, 2, 3, 4, 5};
+        long[] large = LongStream.range(0, LARGE).toArray();
+
+        assertThat(reverse(odd)).containsExactly(5, 4, 3, 2, 1);
+        reverse(large);
+        assertThat(large[0]).isEqualTo(LARGE - 1);
+        assertThat(large[LARGE / 2]).isEqualTo(LARGE - 1 - LARGE / 2);
+        assertThat(large[LARGE - 1]).isZero();
+    }
+
+    @Test
+    void concatAndDistinct_shouldCreateNewArrays() {
+        assertThat(concat(new int[] {1, 2}, new int[0], new int[] {3})).containsExactly(1, 2, 3);
+        assertThat(distinct(new long[] {3, 1, 3, 0, 1, 0})).containsExactly(3, 1, 0);
+    }
+
+    @Test
+    void histogram_shouldCountValuesPerBucket() {
+        int[] small = {0, 1, 5, 9, 10, -1, 4};
+        int[] large = IntStream.range(0, LARGE).map(i -> i % 100).toArray();
+
+        assertThat(histogram(small, 0, 10, 2)).containsExactly(3, 2);
+        long[] counts = histogram(large, 0, 100, 10);
+        assertThat(Arrays.stream(counts).sum()).isEqualTo(LARGE);
+        assertThat(counts[0]).isEqualTo(IntStream.of(large).filter(v -> v < 10).count());
+        assertThat(histogram(new long[] {Long.MIN_VALUE, -1, 0, Long.MAX_VALUE - 1}, Long.MIN_VALUE / 2, Long.MAX_VALUE / 2, 2)).containsExactly(1, 1);
+        assertThat(histogram(new long[] {Long.MIN_VALUE, -1, 0, Long.MAX_VALUE - 1, Long.MAX_VALUE}, Long.MIN_VALUE, Long.MAX_VALUE, 2)).containsExactly(2, 2);
+        assertThat(histogram(new long[] {Long.MIN_VALUE, 0, Long.MAX_VALUE - 1}, Long.MIN_VALUE, Long.MAX_VALUE, 1)).containsExactly(3);
+        assertThat(histogram(new long[] {Long.MIN_VALUE, -1, 0, Long.MAX_VALUE - 1}, Long.MIN_VALUE, Long.MAX_VALUE, 3)).containsExactly(1, 2, 1);
+    }
+}
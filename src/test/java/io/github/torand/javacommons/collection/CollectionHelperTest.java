@@ -17,13 +17,32 @@ package io.github.torand.javacommons.collection;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.DayOfWeek;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
 
+import static io.github.torand.javacommons.collection.CollectionHelper.containsAllOf;
 import static io.github.torand.javacommons.collection.CollectionHelper.containsOneOf;
+import static io.github.torand.javacommons.collection.CollectionHelper.difference;
 import static io.github.torand.javacommons.collection.CollectionHelper.headOf;
+import static io.github.torand.javacommons.collection.CollectionHelper.intersect;
+import static io.github.torand.javacommons.collection.CollectionHelper.lastN;
+import static io.github.torand.javacommons.collection.CollectionHelper.nthOf;
 import static io.github.torand.javacommons.collection.CollectionHelper.reverse;
+import static io.github.torand.javacommons.collection.CollectionHelper.reversedView;
 import static io.github.torand.javacommons.collection.CollectionHelper.tailOf;
+import static io.github.torand.javacommons.collection.CollectionHelper.union;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class CollectionHelperTest {
 
@@ -39,6 +58,53 @@ class CollectionHelperTest {
         assertThat(tailOf(iterable)).isEqualTo(10);
     }
 
+    @Test
+    void headOfAndTailOf_shouldHandleAllCollectionTypes() {
+        List<Integer> elements = List.of(1, 2, 3);
+        Iterable<Integer> iterable = elements::iterator;
+
+        assertThat(List.of(new LinkedList<>(elements), new ArrayDeque<>(elements), new TreeSet<>(elements), new LinkedHashSet<>(elements), iterable))
+            .allSatisfy(i -> {
+                assertThat(headOf(i)).isEqualTo(1);
+                assertThat(tailOf(i)).isEqualTo(3);
+            });
+    }
+
+    @Test
+    void headOfAndTailOf_shouldThrowWhenEmpty() {
+        Iterable<Integer> iterable = List.<Integer>of()::iterator;
+
+        assertThatThrownBy(() -> headOf(new ArrayDeque<>())).isInstanceOf(IllegalArgumentException.class).hasMessage("iterable is empty");
+        assertThatThrownBy(() -> tailOf(iterable)).isInstanceOf(IllegalArgumentException.class).hasMessage("iterable is empty");
+        assertThatThrownBy(() -> tailOf(null)).isInstanceOf(IllegalArgumentException.class).hasMessage("iterable is empty");
+    }
+
+    @Test
+    void nthOf_shouldReturnElementAtIndex() {
+        List<Integer> elements = List.of(1, 2, 3);
+        Iterable<Integer> iterable = elements::iterator;
+
+        assertThat(nthOf(elements, 1)).isEqualTo(2);
+        assertThat(nthOf(new LinkedList<>(elements), 2)).isEqualTo(3);
+        assertThat(nthOf(iterable, 0)).isEqualTo(1);
+        assertThatThrownBy(() -> nthOf(iterable, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> nthOf(elements, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void lastN_shouldReturnLastElementsInOrder() {
+        List<Integer> elements = List.of(1, 2, 3, 4, 5);
+        Iterable<Integer> iterable = elements::iterator;
+
+        assertThat(lastN(elements, 2)).containsExactly(4, 5);
+        assertThat(lastN(new ArrayDeque<>(elements), 3)).containsExactly(3, 4, 5);
+        assertThat(lastN(new TreeSet<>(elements), 10)).containsExactly(1, 2, 3, 4, 5);
+        assertThat(lastN(new LinkedHashSet<>(elements), 2)).containsExactly(4, 5);
+        assertThat(lastN(iterable, 3)).containsExactly(3, 4, 5);
+        assertThat(lastN(iterable, 7)).containsExactly(1, 2, 3, 4, 5);
+        assertThat(lastN(null, 2)).isEmpty();
+    }
+
     @Test
     void containsOneOf_shouldReturnTrueOnlyWhenOneValueMatches() {
         List<Integer> iterable = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
@@ -46,9 +112,90 @@ class CollectionHelperTest {
         assertThat(containsOneOf(iterable, 13)).isFalse();
     }
 
+    @Test
+    void containsOneOf_shouldHandleSetsAndManyItems() {
+        Integer[] manyItems = IntStream.range(100, 120).boxed().toArray(Integer[]::new);
+
+        assertThat(containsOneOf(Set.of(1, 2, 3), null, 3)).isTrue();
+        assertThat(containsOneOf(List.of(1, 2, 119), manyItems)).isTrue();
+        assertThat(containsOneOf(List.of(1, 2, 3), manyItems)).isFalse();
+        assertThat(containsOneOf(EnumSet.of(DayOfWeek.MONDAY), DayOfWeek.SUNDAY, DayOfWeek.MONDAY)).isTrue();
+    }
+
+    @Test
+    void containsAllOf_shouldReturnTrueOnlyWhenAllValuesMatch() {
+        List<Integer> iterable = IntStream.range(0, 200).boxed().toList();
+        Integer[] manyItems = IntStream.range(100, 120).boxed().toArray(Integer[]::new);
+
+        assertThat(containsAllOf(iterable, 5, 1, 199)).isTrue();
+        assertThat(containsAllOf(iterable, 5, 200)).isFalse();
+        assertThat(containsAllOf(iterable, manyItems)).isTrue();
+        assertThat(containsAllOf(List.of(100, 101), manyItems)).isFalse();
+        assertThat(containsAllOf(Set.of(1, 2), 1, 2)).isTrue();
+    }
+
+    @Test
+    void setOperations_shouldPreserveOrderOfFirstIterable() {
+        List<Integer> first = List.of(5, 3, 1, 3, 7);
+        List<Integer> second = IntStream.range(0, 20).filter(i -> i % 2 == 1 && i != 7).boxed().toList();
+
+        assertThat(intersect(first, second)).containsExactly(5, 3, 1);
+        assertThat(difference(first, second)).containsExactly(7);
+        assertThat(union(first, List.of(2, 5))).containsExactly(5, 3, 1, 7, 2);
+        assertThat(intersect(first, null)).isEmpty();
+        assertThat(difference(first, null)).containsExactly(5, 3, 1, 7);
+    }
+
+    @Test
+    void setOperations_shouldUseEnumSetForEnums() {
+        List<DayOfWeek> weekend = List.of(DayOfWeek.SUNDAY, DayOfWeek.SATURDAY);
+
+        assertThat(intersect(EnumSet.allOf(DayOfWeek.class), weekend)).isEqualTo(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+        assertThat(union(weekend, List.of(DayOfWeek.MONDAY))).containsExactly(DayOfWeek.MONDAY, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        assertThat(union(weekend, Arrays.asList(null, DayOfWeek.MONDAY))).containsExactlyInAnyOrder(null, DayOfWeek.MONDAY, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+    }
+
     @Test
     void reverse_shouldReturnElementsInReversedOrder() {
         List<Integer> list = List.of(1, 2, 3);
         assertThat(reverse(list)).containsExactly(3, 2, 1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void reversedView_shouldReflectRandomAccessList() {
+        List<Integer> list = new ArrayList<>(List.of(1, 2, 3));
+        List<Integer> view = reversedView(list);
+        assertThat(view).containsExactly(3, 2, 1);
+        assertThat(view.get(0)).isEqualTo(3);
+
+        list.add(4);
+        view.set(3, 10);
+        assertThat(view).containsExactly(4, 3, 2, 10);
+        assertThat(list).containsExactly(10, 2, 3, 4);
+        assertThatThrownBy(() -> view.get(4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> view.add(5)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void reversedView_shouldReflectSequentialList() {
+        List<Integer> list = new LinkedList<>(List.of(1, 2, 3));
+        List<Integer> view = reversedView(list);
+        assertThat(view).containsExactly(3, 2, 1);
+        assertThat(view.get(2)).isEqualTo(1);
+
+        ListIterator<Integer> iterator = view.listIterator(1);
+        assertThat(iterator.nextIndex()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        iterator.set(20);
+        assertThat(iterator.previous()).isEqualTo(20);
+        assertThat(list).containsExactly(1, 20, 3);
+    }
+
+    @Test
+    void reversedView_shouldReflectDeque() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(List.of(1, 2, 3));
+        assertThat(reversedView(deque)).containsExactly(3, 2, 1).hasSize(3);
+        deque.addLast(4);
+        assertThat(reversedView(deque)).containsExactly(4, 3, 2, 1);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static io.github.torand.javacommons.collection.CollectionHelper.concat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcatenatedListTest {
+
+    @Test
+    void get_shouldLocateElementInParts() {
+        ConcatenatedList<Integer> list = ConcatenatedList.of(List.of(1, 2), List.of(), List.of(3));
+        assertThat(list).hasSize(3).containsExactly(1, 2, 3);
+        assertThat(list.get(2)).isEqualTo(3);
+        assertThatThrownBy(() -> list.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void of_shouldFlattenNestedViews() {
+        List<Integer> folded = ConcatenatedList.of();
+        for (int i = 0; i < 10_000; i++) {
+            folded = ConcatenatedList.of(folded, List.of(i));
+        }
+
+        assertThat(folded).hasSize(10_000);
+        assertThat(folded.get(0)).isZero();
+        assertThat(folded.get(9_999)).isEqualTo(9_999);
+        assertThatThrownBy(() -> ConcatenatedList.of(List.of(1), List.of(2)).get(2))
+            .isInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void of_shouldCreateUnmodifiableView() {
+        List<Integer> first = new ArrayList<>(List.of(1, 2));
+        ConcatenatedList<Integer> list = ConcatenatedList.of(first, List.of(3));
+
+        first.add(10);
+        assertThat(list).containsExactly(1, 2, 10, 3);
+        assertThatThrownBy(() -> list.add(4)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.set(0, 4)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void copyTo_shouldAddAllElements() {
+        ConcatenatedList<Integer> list = ConcatenatedList.of(List.of(1, 2), List.of(2, 3));
+        assertThat(list.copyTo(new ArrayList<>(List.of(0)))).containsExactly(0, 1, 2, 2, 3);
+        assertThat(list.copyTo(new LinkedHashSet<>())).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void toArray_shouldCopyAllElements() {
+        ConcatenatedList<Integer> list = ConcatenatedList.of(List.of(1, 2), List.of(3));
+        assertThat(list.toArray()).containsExactly(1, 2, 3);
+        assertThat(list.toArray(new Integer[0])).containsExactly(1, 2, 3);
+        assertThat(list.toArray(new Integer[] {9, 9, 9, 9, 9})).containsExactly(1, 2, 3, null, 9);
+    }
+
+    @Test
+    void spliterator_shouldBeSizedAndSplittable() {
+        List<Integer> part = IntStream.range(0, 100).boxed().toList();
+        ConcatenatedList<Integer> list = ConcatenatedList.of(part, part);
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(200);
+        assertThat(spliterator.trySplit().getExactSizeIfKnown()).isEqualTo(100);
+        assertThat(list.parallelStream().mapToInt(Integer::intValue).sum()).isEqualTo(2 * 4950);
+    }
+
+    @Test
+    void concat_shouldReturnViewOfListsAndArrays() {
+        List<Integer> first = new ArrayList<>(List.of(1, 2));
+        Integer[] second = {3, 4};
+        List<Integer> list = concat(first, second);
+
+        assertThat(list).isInstanceOf(ConcatenatedList.class).containsExactly(1, 2, 3, 4);
+        second[0] = 30;
+        assertThat(list).containsExactly(1, 2, 30, 4);
+        assertThat(concat(new LinkedHashSet<>(List.of(1, 2)), List.of(3))).containsExactly(1, 2, 3);
+        assertThat(concat(null, List.of(3))).containsExactly(3);
+        assertThat(concat(List.of(1), (Integer[]) null)).containsExactly(1);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static io.github.torand.javacommons.collection.CollectionHelper.isEmpty;
+import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntArrayListTest {
+
+    @Test
+    void add_shouldGrowList() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 2);
+        }
+
+        assertThat(list.size()).isEqualTo(100);
+        assertThat(list.get(99)).isEqualTo(198);
+        assertThat(list.indexOf(50)).isEqualTo(25);
+        assertThat(list.contains(51)).isFalse();
+        assertThat(list.stream().sum()).isEqualTo(9900);
+    }
+
+    @Test
+    void removeAt_shouldShiftSubsequentValues() {
+        IntArrayList list = IntArrayList.of(1, 2, 3, 4);
+
+        assertThat(list.removeAt(1)).isEqualTo(2);
+        assertThat(list.toArray()).containsExactly(1, 3, 4);
+        assertThatThrownBy(() -> list.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void equals_shouldCompareValues() {
+        IntArrayList list = IntArrayList.of(3, 1, 2);
+        list.sort();
+
+        assertThat(list).isEqualTo(IntArrayList.of(1, 2, 3));
+        assertThat(list).hasSameHashCodeAs(IntArrayList.of(1, 2, 3));
+        assertThat(list).hasToString("[1, 2, 3]");
+    }
+
+    @Test
+    void isEmpty_shouldSupportPrimitiveCollections() {
+        IntArrayList list = new IntArrayList();
+
+        assertThat(isEmpty(list)).isTrue();
+        assertThat(isEmpty((IntArrayList) null)).isTrue();
+        assertThatThrownBy(() -> requireNonEmpty(list, "list is empty")).isInstanceOf(IllegalArgumentException.class);
+
+        list.add(1);
+        assertThat(nonEmpty(list)).isTrue();
+        assertThat(requireNonEmpty(list, "list is empty")).isSameAs(list);
+    }
+
+    @Test
+    void constructor_shouldRejectNegativeCapacity() {
+        assertThatThrownBy(() -> new IntArrayList(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
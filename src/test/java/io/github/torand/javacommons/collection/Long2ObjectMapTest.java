@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Long2ObjectMapTest {
+
+    @Test
+    void put_shouldReplaceExistingValue() {
+        Long2ObjectMap<String> map = new Long2ObjectMap<>();
+
+        assertThat(map.put(0L, "zero")).isNull();
+        assertThat(map.put(1L, "one")).isNull();
+        assertThat(map.put(1L, "uno")).isEqualTo("one");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(0L)).isEqualTo("zero");
+        assertThat(map.get(1L)).isEqualTo("uno");
+        assertThat(map.get(2L)).isNull();
+        assertThat(map.getOrDefault(2L, "none")).isEqualTo("none");
+        assertThat(map.keys().toArray()).containsExactlyInAnyOrder(0L, 1L);
+        assertThat(map.values()).containsExactlyInAnyOrder("zero", "uno");
+    }
+
+    @Test
+    void putAndRemove_shouldBehaveLikeHashMap() {
+        Random random = new Random(42);
+        Long2ObjectMap<Long> map = new Long2ObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2000) - 1000L;
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, key * 10)).isEqualTo(expected.put(key, key * 10));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        Map<Long, Long> actual = new HashMap<>();
+        map.forEach((value, key) -> actual.put(key, value));
+        assertThat(actual).isEqualTo(expected);
+        assertThat(map.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void remove_shouldKeepRemainingEntriesReachable() {
+        List<Long> keys = new ArrayList<>();
+        for (int i = -100; i < 100; i++) {
+            keys.add(i * 1024L);
+        }
+        keys.add(Long.MAX_VALUE);
+        keys.add(Long.MIN_VALUE);
+        Long2ObjectMap<String> map = new Long2ObjectMap<>(0);
+        keys.forEach(key -> map.put(key, "v" + key));
+
+        Collections.shuffle(keys, new Random(42));
+        for (int removed = 0; removed < keys.size(); removed++) {
+            long key = keys.get(removed);
+            assertThat(map.remove(key)).isEqualTo("v" + key);
+            assertThat(map.containsKey(key)).isFalse();
+            for (int remaining = removed + 1; remaining < keys.size(); remaining++) {
+                assertThat(map.get(keys.get(remaining))).isEqualTo("v" + keys.get(remaining));
+            }
+        }
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void keyIterator_shouldVisitAllKeys() {
+        Long2ObjectMap<String> map = new Long2ObjectMap<>();
+        map.put(0L, "zero");
+        map.put(Long.MAX_VALUE, "max");
+        map.put(Long.MIN_VALUE, "min");
+        Set<Long> visited = new HashSet<>();
+
+        map.keyIterator().forEachRemaining((long key) -> visited.add(key));
+
+        assertThat(visited).containsExactlyInAnyOrder(0L, Long.MAX_VALUE, Long.MIN_VALUE);
+        assertThat(new Long2ObjectMap<String>().keyIterator().hasNext()).isFalse();
+    }
+
+    @Test
+    void computeIfAbsent_shouldComputeOnlyMissingValues() {
+        Long2ObjectMap<String> map = new Long2ObjectMap<>();
+
+        assertThat(map.computeIfAbsent(5L, key -> "v" + key)).isEqualTo("v5");
+        assertThat(map.computeIfAbsent(5L, key -> "other")).isEqualTo("v5");
+        assertThat(map).hasToString("{5=v5}");
+    }
+
+    @Test
+    void constructor_shouldRejectNegativeExpectedSize() {
+        assertThatThrownBy(() -> new Long2ObjectMap<String>(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongHashSetTest {
+
+    @Test
+    void add_shouldIgnoreDuplicates() {
+        LongHashSet set = LongHashSet.of(0L, 1L, 2L, 1L, 0L, -5L);
+
+        assertThat(set.size()).isEqualTo(4);
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-5L)).isTrue();
+        assertThat(set.contains(3L)).isFalse();
+        assertThat(set.toArray()).containsExactlyInAnyOrder(0L, 1L, 2L, -5L);
+        assertThat(set.stream().sum()).isEqualTo(-2L);
+    }
+
+    @Test
+    void addAndRemove_shouldBehaveLikeHashSet() {
+        Random random = new Random(42);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextInt(2000) - 1000L;
+            if (random.nextBoolean()) {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(set.stream().boxed()).containsExactlyInAnyOrderElementsOf(expected);
+        expected.forEach(value -> assertThat(set.contains(value)).isTrue());
+    }
+
+    @Test
+    void remove_shouldKeepRemainingValuesReachable() {
+        List<Long> values = new ArrayList<>();
+        for (int i = -100; i < 100; i++) {
+            values.add(i * 1024L);
+        }
+        values.add(Long.MAX_VALUE);
+        values.add(Long.MIN_VALUE);
+        LongHashSet set = new LongHashSet(0);
+        values.forEach(set::add);
+
+        Collections.shuffle(values, new Random(42));
+        for (int removed = 0; removed < values.size(); removed++) {
+            assertThat(set.remove(values.get(removed))).isTrue();
+            assertThat(set.contains(values.get(removed))).isFalse();
+            for (int remaining = removed + 1; remaining < values.size(); remaining++) {
+                assertThat(set.contains(values.get(remaining))).isTrue();
+            }
+        }
+        assertThat(set.size()).isZero();
+    }
+
+    @Test
+    void iterator_shouldVisitAllValues() {
+        LongHashSet set = LongHashSet.of(0L, Long.MAX_VALUE, Long.MIN_VALUE, 7L);
+        Set<Long> visited = new HashSet<>();
+
+        set.iterator().forEachRemaining((long value) -> visited.add(value));
+
+        assertThat(visited).containsExactlyInAnyOrder(0L, Long.MAX_VALUE, Long.MIN_VALUE, 7L);
+        assertThat(set).isEqualTo(LongHashSet.of(7L, 0L, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    void constructor_shouldRejectNegativeExpectedSize() {
+        assertThatThrownBy(() -> new LongHashSet(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
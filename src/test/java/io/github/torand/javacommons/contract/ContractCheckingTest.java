@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static io.github.torand.javacommons.collection.ArrayHelper.min;
+import static io.github.torand.javacommons.contract.Requires.precondition;
+import static io.github.torand.javacommons.contract.Requires.require;
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static io.github.torand.javacommons.stream.StreamHelper.chunked;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+class ContractCheckingTest {
+
+    @AfterEach
+    void resetSettings() {
+        List.of("", "com.acme", "com.acme.orders", "org.example").forEach(ContractChecking::reset);
+    }
+
+    @Test
+    void isEnabled_shouldBeEnabledByDefault() {
+        assertThat(ContractChecking.isEnabled()).isTrue();
+        assertThat(ContractChecking.isEnabled("com.acme.orders")).isTrue();
+    }
+
+    @Test
+    void setEnabled_shouldDisableRequiresChecks() {
+        ContractChecking.setEnabled(false);
+
+        assertThat(ContractChecking.isEnabled()).isFalse();
+        assertThat(requireNonBlank("", "string is blank")).isEmpty();
+        assertThat(requireNonEmpty(List.of(), "list is empty")).isEmpty();
+        require(() -> fail("requirement evaluated"), "not evaluated");
+        precondition(() -> false, "not evaluated");
+
+        ContractChecking.setEnabled(true);
+
+        assertThatThrownBy(() -> requireNonBlank("", "string is blank"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("string is blank");
+    }
+
+    @Test
+    void setEnabled_shouldDisableOptionalChecks() {
+        ContractChecking.setEnabled(false);
+
+        assertThat(requireNonEmpty(Optional.empty(), "optional is empty")).isEmpty();
+        assertThat(requireNonEmpty(Optional.empty(), "optional %s is empty", "o")).isEmpty();
+        assertThat(requireNonEmpty(Optional.empty(), "optional %s is %s", "o", "empty")).isEmpty();
+        assertThat(requireNonEmpty(Optional.empty(), "optional %s%s is %s", "o", 1, "empty")).isEmpty();
+        assertThat(requireNonEmpty(Optional.empty(), () -> fail("message supplier invoked"))).isEmpty();
+        assertThat(requireNonEmpty((Optional<String>) null, "optional is null")).isNull();
+
+        ContractChecking.setEnabled(true);
+
+        assertThatThrownBy(() -> requireNonEmpty(Optional.empty(), "optional is empty"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("optional is empty");
+        assertThatThrownBy(() -> requireNonEmpty((Optional<String>) null, "optional is null"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("optional is null");
+    }
+
+    @Test
+    void setEnabled_shouldNotDisableLibraryArgumentChecks() {
+        ContractChecking.setEnabled(false);
+
+        assertThatThrownBy(() -> chunked(Stream.of(1), 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("size must be positive, was 0");
+        assertThatThrownBy(() -> ContractMetrics.setListener((template, callSite, exception) -> {}, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> min(new int[0]))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("array is empty");
+    }
+
+    @Test
+    void category_shouldInheritSettingOfNearestConfiguredAncestor() {
+        ContractChecking.Category orders = ContractChecking.category("com.acme.orders");
+        ContractChecking.Category payments = ContractChecking.category("com.acme.payments");
+        ContractChecking.Category other = ContractChecking.category("org.example");
+
+        ContractChecking.setEnabled("com.acme", false);
+
+        assertThat(orders.isEnabled()).isFalse();
+        assertThat(payments.isEnabled()).isFalse();
+        assertThat(other.isEnabled()).isTrue();
+        assertThat(ContractChecking.isEnabled()).isTrue();
+
+        ContractChecking.setEnabled("com.acme.orders", true);
+
+        assertThat(orders.isEnabled()).isTrue();
+        assertThat(payments.isEnabled()).isFalse();
+
+        ContractChecking.setEnabled(false);
+
+        assertThat(orders.isEnabled()).isTrue();
+        assertThat(other.isEnabled()).isFalse();
+
+        ContractChecking.reset("com.acme");
+        ContractChecking.reset("com.acme.orders");
+
+        assertThat(orders.isEnabled()).isFalse();
+        assertThat(payments.isEnabled()).isFalse();
+    }
+
+    @Test
+    void category_shouldReturnSameCategoryForName() {
+        assertThat(ContractChecking.category("com.acme")).isSameAs(ContractChecking.category(" com.acme "));
+        assertThat(ContractChecking.category(ContractCheckingTest.class).name()).isEqualTo("io.github.torand.javacommons.contract");
+    }
+
+    @Test
+    void loadSettings_shouldReadSystemProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("javacommons.contracts", "false");
+        properties.setProperty("javacommons.contracts.com.acme", "true");
+        properties.setProperty("unrelated", "false");
+
+        ContractChecking.loadSettings(properties);
+
+        assertThat(ContractChecking.isEnabled()).isFalse();
+        assertThat(ContractChecking.isEnabled("org.example")).isFalse();
+        assertThat(ContractChecking.isEnabled("com.acme.orders")).isTrue();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.github.torand.javacommons.contract.Requires.precondition;
+import static io.github.torand.javacommons.contract.Requires.require;
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
+
+class ContractMetricsTest {
+
+    @BeforeEach
+    void enableMetrics() {
+        ContractMetrics.reset();
+        ContractMetrics.setEnabled(true);
+    }
+
+    @AfterEach
+    void disableMetrics() {
+        ContractMetrics.setEnabled(false);
+        ContractMetrics.removeListener();
+        ContractMetrics.reset();
+        ContractMetrics.unregisterMBean();
+    }
+
+    @Test
+    void snapshot_shouldCountViolationsPerTemplateAndCallSite() {
+        requireNonBlank("abc", "string is blank: %s", "x");
+        for (int i = 0; i < 3; i++) {
+            int value = i;
+            catchThrowable(() -> require(() -> false, "value %d is invalid", value));
+        }
+        catchThrowable(() -> requireNonEmpty(List.of(), "list is empty"));
+        catchThrowable(() -> precondition(() -> false, () -> "supplied message"));
+
+        ContractMetrics.Snapshot snapshot = ContractMetrics.snapshot();
+
+        assertThat(snapshot.violations()).isEqualTo(5);
+        assertThat(snapshot.byTemplate()).containsExactly(
+            entry("value %d is invalid", 3L),
+            entry("list is empty", 1L),
+            entry("supplied message", 1L));
+        assertThat(snapshot.byCallSite().keySet())
+            .allMatch(callSite -> callSite.startsWith(ContractMetricsTest.class.getName() + "."));
+        assertThat(snapshot.byCallSite().values()).containsExactly(3L, 1L, 1L);
+    }
+
+    @Test
+    void record_shouldNotCountWhenDisabled() {
+        ContractMetrics.setEnabled(false);
+
+        assertThatThrownBy(() -> require(() -> false, "failed"))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(ContractMetrics.snapshot().violations()).isZero();
+    }
+
+    @Test
+    void record_shouldBoundNumberOfKeys() {
+        IntStream.range(0, ContractMetrics.MAX_KEYS + 10)
+            .forEach(i -> catchThrowable(() -> require(() -> false, () -> "message " + i)));
+
+        ContractMetrics.Snapshot snapshot = ContractMetrics.snapshot();
+
+        assertThat(snapshot.byTemplate()).hasSize(ContractMetrics.MAX_KEYS + 1);
+        assertThat(snapshot.byTemplate()).containsEntry(ContractMetrics.OTHER, 10L);
+    }
+
+    @Test
+    void setListener_shouldNotifyOfSampledViolations() {
+        List<String> notified = new ArrayList<>();
+        ContractMetrics.setListener((template, callSite, exception) -> notified.add(template + "=" + exception.getMessage()), 2);
+
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            catchThrowable(() -> require(() -> false, "value %d is invalid", value));
+        }
+
+        assertThat(notified).containsExactly("value %d is invalid=value 0 is invalid", "value %d is invalid=value 2 is invalid", "value %d is invalid=value 4 is invalid");
+    }
+
+    @Test
+    void setListener_shouldSuppressListenerFailures() {
+        ContractMetrics.setListener((template, callSite, exception) -> {
+            throw new UnsupportedOperationException("listener failed");
+        });
+
+        Throwable thrown = catchThrowable(() -> require(() -> false, "failed"));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class).hasMessage("failed");
+        assertThat(thrown.getSuppressed()).singleElement().isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void registerMBean_shouldExposeCounters() throws Exception {
+        catchThrowable(() -> require(() -> false, "failed"));
+
+        ObjectName name = ContractMetrics.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        assertThat(ContractMetrics.registerMBean()).isEqualTo(name);
+        assertThat(server.getAttribute(name, "Violations")).isEqualTo(1L);
+        assertThat(server.getAttribute(name, "Enabled")).isEqualTo(true);
+
+        server.invoke(name, "reset", null, null);
+
+        assertThat(ContractMetrics.snapshot().violations()).isZero();
+    }
+}
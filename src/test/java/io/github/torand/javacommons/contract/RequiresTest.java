@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static io.github.torand.javacommons.contract.Requires.precondition;
+import static io.github.torand.javacommons.contract.Requires.require;
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+class RequiresTest {
+
+    @Test
+    void requireNonEmpty_shouldReturnValueWhenNotEmpty() {
+        int[] ints = {1};
+        List<String> list = List.of("a");
+        Optional<String> optional = Optional.of("a");
+
+        assertThat(requireNonEmpty(ints, "ints is empty")).isSameAs(ints);
+        assertThat(requireNonEmpty(list, "list is empty: %s", "x")).isSameAs(list);
+        assertThat(requireNonEmpty(optional, "optional is empty: %d", 42)).isSameAs(optional);
+    }
+
+    @Test
+    void requireNonEmpty_shouldThrowWhenNullOrEmpty() {
+        assertThatThrownBy(() -> requireNonEmpty((long[]) null, "array %s is null", "a"))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("array a is null");
+        assertThatThrownBy(() -> requireNonEmpty(new String[0], "array %s is empty (%d)", "a", 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("array a is empty (0)");
+        assertThatThrownBy(() -> requireNonEmpty(Optional.empty(), "optional is empty"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("optional is empty");
+    }
+
+    @Test
+    void requireNonBlank_shouldFormatMessageOnlyWhenCheckFails() {
+        Supplier<String> failingSupplier = () -> fail("Message supplier invoked");
+
+        assertThat(requireNonBlank("abc", failingSupplier)).isEqualTo("abc");
+        assertThatThrownBy(() -> requireNonBlank("", () -> "string is blank"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("string is blank");
+        assertThatThrownBy(() -> requireNonBlank(null, "string %s is %s, %c", "s", "null", 'x'))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("string s is null, x");
+    }
+
+    @Test
+    void require_shouldSpreadObjectArrayLikeVarargs() {
+        Object[] args = {"a", "b"};
+
+        assertThatThrownBy(() -> require(() -> false, "%s and %s", args))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("a and b");
+        assertThatThrownBy(() -> require(() -> false, "char %s", 'c'))
+            .hasMessage("char c");
+    }
+
+    @Test
+    void precondition_shouldThrowIllegalStateException() {
+        precondition(() -> true, "not thrown %d", 1L);
+
+        assertThatThrownBy(() -> precondition(() -> false, "state %d", 1L))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("state 1");
+    }
+}
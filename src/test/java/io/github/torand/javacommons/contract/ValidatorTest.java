@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.contract;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValidatorTest {
+
+    record Person(String name, Integer age, List<String> emails) {}
+
+    private static void validatePerson(Person person, Validator validator) {
+        validator.requireNonBlank(person.name(), "name is blank");
+        if (validator.requireNonNull(person.age(), "age of %s is missing", person.name())) {
+            validator.require(() -> person.age() >= 0, "age %d is negative", person.age());
+        }
+        validator.requireNonEmpty(person.emails(), "%s has no emails", person.name());
+    }
+
+    @Test
+    void validator_shouldCollectAllViolations() {
+        Validator validator = new Validator();
+
+        validatePerson(new Person("", -1, List.of()), validator);
+
+        assertThat(validator.isValid()).isFalse();
+        assertThat(validator.violations().messages()).containsExactly("name is blank", "age -1 is negative", " has no emails");
+        assertThat(validator.violations().asList().get(1).template()).isEqualTo("age %d is negative");
+        assertThat(validator.violations().asList().get(1).args()).containsExactly(-1);
+    }
+
+    @Test
+    void validator_shouldBeValidWhenAllChecksPass() {
+        Validator validator = new Validator();
+
+        validatePerson(new Person("Ola", 42, List.of("ola@example.com")), validator);
+
+        assertThat(validator.isValid()).isTrue();
+        assertThat(validator.violations().isEmpty()).isTrue();
+        validator.violations().throwIfAny();
+    }
+
+    @Test
+    void violation_shouldFormatMessageOnlyWhenRead() {
+        AtomicInteger formatted = new AtomicInteger();
+        Object arg = new Object() {
+            @Override
+            public String toString() {
+                formatted.incrementAndGet();
+                return "arg";
+            }
+        };
+        Validator validator = new Validator();
+
+        validator.require(() -> false, "failed with %s", arg);
+
+        assertThat(formatted).hasValue(0);
+        Violation violation = validator.violations().asList().get(0);
+        assertThat(violation.message()).isEqualTo("failed with arg");
+        assertThat(violation.message()).isEqualTo("failed with arg");
+        assertThat(formatted).hasValue(1);
+    }
+
+    @Test
+    void throwIfAny_shouldThrowWithAllMessages() {
+        Validator validator = new Validator();
+        validator.require(() -> false, "first");
+        validator.require(() -> false, "second %s %s", "a", "b");
+
+        assertThatThrownBy(() -> validator.violations().throwIfAny())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("first; second a b");
+    }
+
+    @Test
+    void violation_shouldUseMessageWithoutArgumentsVerbatim() {
+        Validator validator = new Validator();
+
+        validator.requireNonBlank("", "50% of name is missing");
+
+        assertThat(validator.violations().messages()).containsExactly("50% of name is missing");
+        assertThatThrownBy(() -> validator.violations().throwIfAny()).hasMessage("50% of name is missing");
+    }
+
+    @Test
+    void violation_shouldNotChangeWhenParameterArrayIsReused() {
+        Object[] args = {"first"};
+        Validator validator = new Validator();
+
+        validator.requireNonNull(null, "value %s is missing", args);
+        Violation recorded = validator.violations().asList().get(0);
+        int hash = recorded.hashCode();
+        args[0] = "second";
+
+        assertThat(recorded.message()).isEqualTo("value first is missing");
+        assertThat(recorded.hashCode()).isEqualTo(hash);
+    }
+
+    @Test
+    void validator_shouldRejectNullMessage() {
+        Validator validator = new Validator();
+
+        assertThatThrownBy(() -> validator.requireNonNull("value", null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("msg is null");
+        assertThatThrownBy(() -> Validator.validateAll(null, (e, v) -> {}))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("elements is null");
+    }
+
+    @Test
+    void requirement_shouldCompose() {
+        Requirement yes = () -> true;
+        Requirement no = () -> false;
+        Requirement failing = () -> {
+            throw new AssertionError("should not be tested");
+        };
+
+        assertThat(yes.and(yes).test()).isTrue();
+        assertThat(yes.and(no).test()).isFalse();
+        assertThat(no.and(failing).test()).isFalse();
+        assertThat(no.or(yes).test()).isTrue();
+        assertThat(no.or(no).test()).isFalse();
+        assertThat(yes.or(failing).test()).isTrue();
+        assertThat(no.negate().test()).isTrue();
+        assertThat(yes.negate().test()).isFalse();
+    }
+
+    @Test
+    void validateAll_shouldReturnViolationsByIndex() {
+        Stream<Person> persons = Stream.of(
+            new Person("Ola", 42, List.of("ola@example.com")),
+            new Person(null, null, List.of("x@example.com")),
+            new Person("Kari", 30, List.of()));
+
+        Map<Integer, Violations> violations = Validator.validateAll(persons, ValidatorTest::validatePerson);
+
+        assertThat(violations).containsOnlyKeys(1, 2);
+        assertThat(violations.get(1).messages()).containsExactly("name is blank", "age of null is missing");
+        assertThat(violations.get(2).messages()).containsExactly("Kari has no emails");
+    }
+
+    @Test
+    void validateAll_shouldSupportParallelStreams() {
+        List<Integer> values = IntStream.range(0, 10_000).boxed().toList();
+
+        Map<Integer, Violations> violations = Validator.validateAll(values.parallelStream(),
+            (value, validator) -> validator.require(() -> value % 3 != 0, "%d is divisible by 3", value));
+
+        assertThat(violations).hasSize(3334);
+        assertThat(violations.keySet()).allMatch(index -> index % 3 == 0);
+        assertThat(List.copyOf(violations.keySet())).isSorted();
+        assertThat(violations.get(9999).messages()).containsExactly("9999 is divisible by 3");
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static io.github.torand.javacommons.functional.Functions.memoize;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoizingFunctionTest {
+
+    @Test
+    void apply_shouldCacheResults() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizingFunction<String, Integer> length = memoize(s -> {
+            calls.incrementAndGet();
+            return s == null ? null : s.length();
+        });
+
+        assertThat(length.apply("abc")).isEqualTo(3);
+        assertThat(length.apply("abc")).isEqualTo(3);
+        assertThat(length.apply(null)).isNull();
+        assertThat(length.apply(null)).isNull();
+
+        assertThat(calls).hasValue(2);
+        assertThat(length.stats()).isEqualTo(new MemoizingFunction.Stats(2, 2, 0));
+        assertThat(length.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void apply_shouldNotCacheExceptions() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizingFunction<String, Integer> failingOnce = memoize(s -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("failed");
+            }
+            return s.length();
+        });
+
+        assertThatThrownBy(() -> failingOnce.apply("abc")).isInstanceOf(IllegalStateException.class);
+        assertThat(failingOnce.apply("abc")).isEqualTo(3);
+        assertThat(failingOnce.size()).isEqualTo(1);
+    }
+
+    @Test
+    void apply_shouldEvictUnreferencedEntriesFirst() {
+        MemoizingFunction<Integer, Integer> square = memoize(i -> i * i, 3);
+        square.apply(1);
+        square.apply(2);
+        square.apply(3);
+        square.apply(1);
+        square.apply(4);
+
+        assertThat(square.size()).isEqualTo(3);
+        assertThat(square.stats().evictions()).isEqualTo(1);
+
+        long misses = square.stats().misses();
+        square.apply(1);
+        assertThat(square.stats().misses()).isEqualTo(misses);
+    }
+
+    @Test
+    void apply_shouldStayWithinBound() {
+        MemoizingFunction<Integer, Integer> square = memoize(i -> i * i, 100);
+        for (int i = 0; i < 10_000; i++) {
+            square.apply(i % 1000);
+        }
+        assertThat(square.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void apply_shouldRecomputeExpiredEntries() {
+        AtomicLong time = new AtomicLong();
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, Integer> function = s -> calls.incrementAndGet();
+        MemoizingFunction<String, Integer> expiring = new MemoizingFunction<>(function, 10, Duration.ofSeconds(1), time::get);
+
+        assertThat(expiring.apply("a")).isEqualTo(1);
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(expiring.apply("a")).isEqualTo(1);
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(expiring.apply("a")).isEqualTo(2);
+        assertThat(expiring.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void apply_shouldNotRetainExpiredEntries() {
+        AtomicLong time = new AtomicLong();
+        MemoizingFunction<String, Integer> expiring = new MemoizingFunction<>(String::length, 10, Duration.ofSeconds(1), time::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(expiring.apply("a")).isEqualTo(1);
+            time.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        }
+
+        assertThat(expiring.size()).isEqualTo(1);
+        assertThat(expiring.clockSize()).isLessThanOrEqualTo(20);
+        assertThat(expiring.stats().evictions()).isEqualTo(9_999);
+    }
+
+    @Test
+    void apply_shouldRejectRecursiveCallForSameKey() {
+        AtomicReference<Function<Integer, Integer>> self = new AtomicReference<>();
+        MemoizingFunction<Integer, Integer> recursive = memoize(i -> i == 0 ? 0 : self.get().apply(i));
+        self.set(recursive);
+
+        assertThatThrownBy(() -> recursive.apply(1))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Recursive update of key 1");
+        assertThat(recursive.size()).isZero();
+    }
+
+    @Test
+    void apply_shouldAllowRecursiveCallForOtherKeys() {
+        AtomicReference<Function<Integer, Long>> self = new AtomicReference<>();
+        MemoizingFunction<Integer, Long> factorial = memoize(i -> i <= 1 ? 1L : i * self.get().apply(i - 1));
+        self.set(factorial);
+
+        assertThat(factorial.apply(20)).isEqualTo(2_432_902_008_176_640_000L);
+    }
+
+    @Test
+    void apply_shouldComputeOnceForConcurrentCalls() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch computing = new CountDownLatch(1);
+        MemoizingFunction<String, Integer> slow = memoize(s -> {
+            calls.incrementAndGet();
+            await(computing);
+            return s.length();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Integer> first = executor.submit(() -> slow.apply("abc"));
+            Future<Integer> second = executor.submit(() -> slow.apply("abc"));
+            Future<Integer> other = executor.submit(() -> slow.apply("de"));
+            Thread.sleep(50);
+            computing.countDown();
+
+            assertThat(first.get()).isEqualTo(3);
+            assertThat(second.get()).isEqualTo(3);
+            assertThat(other.get()).isEqualTo(2);
+            assertThat(calls).hasValue(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void memoize_shouldValidateArguments() {
+        assertThatThrownBy(() -> memoize(Function.identity(), 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memoize(Function.identity(), 10, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memoize(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.functional;
+
+import org.junit.jupiter.api.Test;
+
+import static io.github.torand.javacommons.functional.Optionals.mapSafely;
+import static io.github.torand.javacommons.functional.Optionals.mapSafelyOrElse;
+import static io.github.torand.javacommons.functional.Optionals.mapSafelyToDouble;
+import static io.github.torand.javacommons.functional.Optionals.mapSafelyToInt;
+import static io.github.torand.javacommons.functional.Optionals.mapSafelyToLong;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OptionalsTest {
+
+    record Person(String name, Address address) {}
+    record Address(String street, City city) {}
+    record City(String name, Integer population) {}
+
+    private static final Person PERSON = new Person("Ola", new Address("Storgata 1", new City("Oslo", 700_000)));
+    private static final Person HOMELESS = new Person("Kari", null);
+
+    @Test
+    void mapSafely_shouldMapNonNullValues() {
+        assertThat(mapSafely(PERSON, Person::name)).isEqualTo("Ola");
+        assertThat(mapSafely(PERSON, Person::address, Address::street)).isEqualTo("Storgata 1");
+        assertThat(mapSafely(PERSON, Person::address, Address::city, City::name)).isEqualTo("Oslo");
+        assertThat(mapSafely(PERSON, Person::address, Address::city, City::name, String::length)).isEqualTo(4);
+    }
+
+    @Test
+    void mapSafely_shouldReturnNullOnNullValue() {
+        Person nobody = null;
+
+        assertThat(mapSafely(nobody, Person::name)).isNull();
+        assertThat(mapSafely(nobody, Person::address, Address::street)).isNull();
+        assertThat(mapSafely(HOMELESS, Person::address, Address::street)).isNull();
+        assertThat(mapSafely(HOMELESS, Person::address, Address::city, City::name)).isNull();
+        assertThat(mapSafely(HOMELESS, Person::address, Address::city, City::name, String::length)).isNull();
+    }
+
+    @Test
+    void mapSafelyOrElse_shouldReturnDefaultOnNull() {
+        assertThat(mapSafelyOrElse(PERSON, Person::name, "unknown")).isEqualTo("Ola");
+        assertThat(mapSafelyOrElse(new Person(null, null), Person::name, "unknown")).isEqualTo("unknown");
+        assertThat(mapSafelyOrElse(HOMELESS, Person::address, Address::street, "unknown")).isEqualTo("unknown");
+        assertThat(mapSafelyOrElse(PERSON, Person::address, Address::city, City::name, "unknown")).isEqualTo("Oslo");
+        assertThat(mapSafelyOrElse(HOMELESS, Person::address, Address::city, City::name, "unknown")).isEqualTo("unknown");
+    }
+
+    @Test
+    void mapSafelyToPrimitive_shouldReturnDefaultOnNull() {
+        String nothing = null;
+
+        assertThat(mapSafelyToInt("abc", String::length, -1)).isEqualTo(3);
+        assertThat(mapSafelyToInt(nothing, String::length, -1)).isEqualTo(-1);
+        assertThat(mapSafelyToLong("abc", s -> s.length() * 10L, -1L)).isEqualTo(30L);
+        assertThat(mapSafelyToLong(nothing, s -> s.length() * 10L, -1L)).isEqualTo(-1L);
+        assertThat(mapSafelyToDouble("abc", s -> s.length() / 2.0, Double.NaN)).isEqualTo(1.5);
+        assertThat(mapSafelyToDouble(nothing, s -> s.length() / 2.0, Double.NaN)).isNaN();
+    }
+}
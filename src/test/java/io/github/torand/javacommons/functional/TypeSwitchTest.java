@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class TypeSwitchTest {
+
+    @Test
+    void apply_shouldDispatchToMostSpecificHandler() {
+        TypeSwitch<Object, String> typeSwitch = TypeSwitch.<Object, String>builder()
+            .on(Number.class, n -> "number")
+            .on(Integer.class, i -> "integer " + i)
+            .on(CharSequence.class, cs -> "chars")
+            .build();
+
+        assertThat(typeSwitch.apply(42)).isEqualTo("integer 42");
+        assertThat(typeSwitch.apply(42L)).isEqualTo("number");
+        assertThat(typeSwitch.apply("abc")).isEqualTo("chars");
+        assertThat(typeSwitch.apply(new StringBuilder())).isEqualTo("chars");
+    }
+
+    @Test
+    void apply_shouldPreferFirstRegisteredOfUnrelatedTypes() {
+        TypeSwitch<Object, String> typeSwitch = TypeSwitch.<Object, String>builder()
+            .on(Serializable.class, s -> "serializable")
+            .on(Comparable.class, c -> "comparable")
+            .on(CharSequence.class, cs -> "chars")
+            .build();
+
+        assertThat(typeSwitch.apply(42)).isEqualTo("serializable");
+        assertThat(typeSwitch.apply("abc")).isEqualTo("serializable");
+        assertThat(typeSwitch.apply(new StringBuilder())).isEqualTo("serializable");
+    }
+
+    @Test
+    void apply_shouldPreferSubtypeOfLaterRegisteredType() {
+        TypeSwitch<Object, String> typeSwitch = TypeSwitch.<Object, String>builder()
+            .on(CharSequence.class, cs -> "chars")
+            .on(Number.class, n -> "number")
+            .on(Integer.class, i -> "integer")
+            .build();
+
+        assertThat(typeSwitch.apply(1)).isEqualTo("integer");
+    }
+
+    @Test
+    void apply_shouldUseFallbackHandler() {
+        TypeSwitch<Object, String> typeSwitch = TypeSwitch.<Object, String>builder()
+            .on(Integer.class, i -> "integer")
+            .otherwise(o -> "other " + o)
+            .build();
+
+        assertThat(typeSwitch.apply("abc")).isEqualTo("other abc");
+        assertThat(typeSwitch.apply(null)).isEqualTo("other null");
+        assertThat(typeSwitch.handles("abc")).isTrue();
+    }
+
+    @Test
+    void apply_shouldThrowWhenNoHandler() {
+        TypeSwitch<Object, String> typeSwitch = TypeSwitch.<Object, String>builder()
+            .on(Integer.class, i -> "integer")
+            .build();
+
+        assertThat(typeSwitch.handles(1)).isTrue();
+        assertThat(typeSwitch.handles("abc")).isFalse();
+        assertThat(typeSwitch.handles(null)).isFalse();
+        assertThatThrownBy(() -> typeSwitch.apply("abc"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No handler for java.lang.String");
+        assertThatThrownBy(() -> typeSwitch.apply(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No handler for null");
+    }
+
+    @Test
+    void on_shouldRejectDuplicateType() {
+        TypeSwitch.Builder<Object, String> builder = TypeSwitch.<Object, String>builder().on(Integer.class, i -> "integer");
+
+        assertThatThrownBy(() -> builder.on(Integer.class, i -> "again"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Handler for java.lang.Integer already registered");
+    }
+
+    @Test
+    void groupingByHandler_shouldGroupResultsByRegisteredType() {
+        TypeSwitch<Object, String> typeSwitch = TypeSwitch.<Object, String>builder()
+            .on(String.class, String::toUpperCase)
+            .on(Integer.class, i -> "#" + i)
+            .on(Boolean.class, b -> "flag")
+            .otherwise(String::valueOf)
+            .build();
+
+        Map<Class<?>, List<String>> groups = Stream.of("a", 1, 2.5, "b", 3).collect(typeSwitch.groupingByHandler());
+
+        assertThat(groups).containsExactly(
+            entry(String.class, List.of("A", "B")),
+            entry(Integer.class, List.of("#1", "#3")),
+            entry(Object.class, List.of("2.5")));
+    }
+
+    @Test
+    void groupingByHandler_shouldSupportParallelStreams() {
+        TypeSwitch<Object, Integer> typeSwitch = TypeSwitch.<Object, Integer>builder()
+            .on(Integer.class, i -> i)
+            .on(String.class, String::length)
+            .build();
+
+        List<Object> elements = Stream.iterate(0, i -> i + 1).limit(1000).map(i -> i % 2 == 0 ? (Object) i : "x".repeat(i % 7)).toList();
+        Map<Class<?>, List<Integer>> groups = elements.parallelStream().collect(typeSwitch.groupingByHandler());
+
+        assertThat(groups.get(Integer.class)).hasSize(500).startsWith(0, 2, 4);
+        assertThat(groups.get(String.class)).hasSize(500).startsWith(1, 3, 5);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static io.github.torand.javacommons.lang.Exceptions.illegalArgumentException;
+import static io.github.torand.javacommons.lang.Exceptions.sharedRuntimeException;
+import static io.github.torand.javacommons.lang.Exceptions.stacklessIllegalArgumentException;
+import static io.github.torand.javacommons.lang.Exceptions.stacklessIllegalStateException;
+import static io.github.torand.javacommons.lang.Exceptions.stacklessRuntimeException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExceptionsTest {
+
+    @Test
+    void illegalArgumentException_shouldFormatMessage() {
+        assertThat(illegalArgumentException("value %s is invalid", "x").get())
+            .hasMessage("value x is invalid")
+            .satisfies(e -> assertThat(e.getStackTrace()).isNotEmpty());
+    }
+
+    @Test
+    void stacklessExceptions_shouldHaveFormattedMessageAndNoStackTrace() {
+        assertThat(stacklessIllegalArgumentException("value %s is invalid", "x").get())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("value x is invalid")
+            .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        assertThat(stacklessIllegalStateException("state %d", 42).get())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("state 42")
+            .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        assertThat(stacklessRuntimeException("failed").get())
+            .hasMessage("failed")
+            .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    void stacklessExceptions_shouldPlugIntoOrElseThrow() {
+        Optional<String> empty = Optional.empty();
+        assertThatThrownBy(() -> empty.orElseThrow(stacklessIllegalArgumentException("missing %s", "name")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("missing name");
+    }
+
+    @Test
+    void sharedRuntimeException_shouldUseFixedMessageVerbatim() {
+        assertThat(sharedRuntimeException("50% done").get()).hasMessage("50% done");
+        assertThat(sharedRuntimeException("invalid %s").get()).hasMessage("invalid %s");
+    }
+
+    @Test
+    void sharedRuntimeException_shouldReturnSameInstanceWithoutSuppression() {
+        Supplier<RuntimeException> supplier = sharedRuntimeException("failed");
+        RuntimeException exception = supplier.get();
+
+        exception.addSuppressed(new IllegalStateException("suppressed"));
+
+        assertThat(supplier.get()).isSameAs(exception);
+        assertThat(exception.getSuppressed()).isEmpty();
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void stacklessExceptions_shouldNotFailOnInvalidMessage() {
+        assertThat(stacklessIllegalStateException("50% done").get()).hasMessage("50% done []");
+        assertThat(stacklessRuntimeException("value %d", "text").get()).hasMessage("value %d [text]");
+        assertThat(stacklessIllegalArgumentException("%s and %s", "one").get()).hasMessage("%s and %s [one]");
+    }
+
+    @Test
+    void factories_shouldRejectBlankMessage() {
+        assertThatThrownBy(() -> stacklessIllegalArgumentException(""))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sharedRuntimeException(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
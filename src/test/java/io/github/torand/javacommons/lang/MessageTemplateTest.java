@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatConversionException;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageTemplateTest {
+
+    @Test
+    void format_shouldMatchStringFormat() {
+        assertSameAsStringFormat("no parameters");
+        assertSameAsStringFormat("");
+        assertSameAsStringFormat("%s", "x");
+        assertSameAsStringFormat("value %s is not in %s", "x", List.of(1, 2));
+        assertSameAsStringFormat("index %d of %d", 3, 10L);
+        assertSameAsStringFormat("short %d, byte %d, big %d", (short) -1, (byte) 7, BigInteger.TEN.pow(30));
+        assertSameAsStringFormat("null %s and %d", null, null);
+        assertSameAsStringFormat("percent %d%% done%n", 50);
+        assertSameAsStringFormat("extra %s", "a", "b");
+        assertSameAsStringFormat("padded %5s|%-3d|%08.2f", "x", 1, 3.14159);
+        assertSameAsStringFormat("indexed %2$s %1$s", "a", "b");
+        assertSameAsStringFormat("upper %S", "x");
+    }
+
+    @Test
+    void format_shouldDelegateFormattableArguments() {
+        Formattable formattable = (Formatter formatter, int flags, int width, int precision) -> formatter.format("formatted");
+        assertSameAsStringFormat("value %s", formattable);
+    }
+
+    @Test
+    void format_shouldFailLikeStringFormat() {
+        assertThatThrownBy(() -> MessageTemplate.format("%d", "x"))
+            .isInstanceOf(IllegalFormatConversionException.class);
+        assertThatThrownBy(() -> MessageTemplate.format("%s and %s", "x"))
+            .isInstanceOf(MissingFormatArgumentException.class);
+        assertThatThrownBy(() -> MessageTemplate.format("trailing %"))
+            .isInstanceOf(UnknownFormatConversionException.class);
+    }
+
+    @Test
+    void format_shouldUseLocaleDigits() {
+        Locale defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag("th-TH-u-nu-thai"));
+            assertSameAsStringFormat("count %d", 42);
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+        }
+    }
+
+    @Test
+    void of_shouldReturnCachedTemplate() {
+        MessageTemplate template = MessageTemplate.of("cached %s");
+        assertThat(MessageTemplate.of("cached %s")).isSameAs(template);
+        assertThat(template.pattern()).isEqualTo("cached %s");
+        assertThat(template.render("value")).isEqualTo("cached value");
+    }
+
+    private static void assertSameAsStringFormat(String pattern, Object... args) {
+        assertThat(MessageTemplate.format(pattern, args)).isEqualTo(String.format(pattern, args));
+    }
+}
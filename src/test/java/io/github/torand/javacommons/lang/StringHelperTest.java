@@ -17,13 +17,28 @@ package io.github.torand.javacommons.lang;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+
+import static io.github.torand.javacommons.lang.StringHelper.appendCapitalized;
+import static io.github.torand.javacommons.lang.StringHelper.appendQuoted;
+import static io.github.torand.javacommons.lang.StringHelper.appendQuotedAll;
+import static io.github.torand.javacommons.lang.StringHelper.appendRepeated;
+import static io.github.torand.javacommons.lang.StringHelper.appendUncapitalized;
 import static io.github.torand.javacommons.lang.StringHelper.capitalize;
 import static io.github.torand.javacommons.lang.StringHelper.generate;
 import static io.github.torand.javacommons.lang.StringHelper.isBlank;
 import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
 import static io.github.torand.javacommons.lang.StringHelper.quote;
+import static io.github.torand.javacommons.lang.StringHelper.quoteAll;
 import static io.github.torand.javacommons.lang.StringHelper.uncapitalize;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class StringHelperTest {
 
@@ -72,4 +87,93 @@ class StringHelperTest {
     void generate_shouldReturnRepeatedSubstringwithDelimiter() {
         assertThat(generate("x", 4, ",")).isEqualTo("x,x,x,x");
     }
+
+    @Test
+    void generate_shouldHandleEdgeCases() {
+        assertThat(generate("x", 0, ",")).isEmpty();
+        assertThat(generate("x", 1, ",")).isEqualTo("x");
+        assertThat(generate("ab", 3, "")).isEqualTo("ababab");
+    }
+
+    @Test
+    void quoteAll_shouldQuoteEachString() {
+        assertThat(quoteAll(List.of("a", "b"))).containsExactly("\"a\"", "\"b\"");
+        assertThat(quoteAll(Arrays.asList("a", null))).containsExactly("\"a\"", null);
+        assertThat(quoteAll(null)).isEmpty();
+        assertThat(quoteAll(new LinkedList<>(List.of("a", "b")))).containsExactly("\"a\"", "\"b\"");
+    }
+
+    @Test
+    void capitalize_shouldReturnSameInstanceWhenUnchanged() {
+        String string = "Hello";
+        assertThat(capitalize(string)).isSameAs(string);
+        assertThat(uncapitalize("hello")).isSameAs("hello");
+    }
+
+    @Test
+    void capitalize_shouldHandleNonAsciiLetters() {
+        assertThat(capitalize("ærlig")).isEqualTo("Ærlig");
+        assertThat(capitalize("ßa")).isEqualTo("SSa");
+        assertThat(uncapitalize("Østen")).isEqualTo("østen");
+    }
+
+    @Test
+    void capitalize_shouldRespectTurkishLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertThat(capitalize("istanbul")).isEqualTo("\u0130stanbul");
+            assertThat(uncapitalize("Istanbul")).isEqualTo("\u0131stanbul");
+            assertThat(appendCapitalized(new StringBuilder(), "istanbul")).hasToString("\u0130stanbul");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void appendQuoted_shouldAppendEnclosedInQuotes() {
+        assertThat(appendQuoted(new StringBuilder("x="), "hello")).hasToString("x=\"hello\"");
+        assertThat(appendQuoted(new StringBuilder("x="), null)).hasToString("x=");
+    }
+
+    @Test
+    void appendQuotedAll_shouldAppendDelimitedQuotedStrings() {
+        assertThat(appendQuotedAll(new StringBuilder(), Arrays.asList("a", null, "b"), ", ")).hasToString("\"a\", null, \"b\"");
+        assertThat(appendQuotedAll(new StringBuilder(), null, ", ")).hasToString("");
+    }
+
+    @Test
+    void appendCapitalized_shouldAppendWithUpperCaseFirstLetter() {
+        assertThat(appendCapitalized(new StringBuilder(), "hello")).hasToString("Hello");
+        assertThat(appendUncapitalized(new StringBuilder(), "HELLO")).hasToString("hELLO");
+        assertThat(appendCapitalized(new StringBuilder(), null)).hasToString("");
+    }
+
+    @Test
+    void appendRepeated_shouldAppendRepeatedSubstring() {
+        assertThat(appendRepeated(new StringBuilder("["), "x", 3, ",").append(']')).hasToString("[x,x,x]");
+        assertThat(appendRepeated(new StringBuilder(), "x", 0, ",")).hasToString("");
+    }
+
+    @Test
+    void appendQuoted_shouldWrapIOException() {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("write failed");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertThatThrownBy(() -> appendQuoted(failing, "hello"))
+            .isInstanceOf(UncheckedIOException.class)
+            .hasCauseInstanceOf(IOException.class);
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StringPoolTest {
+
+    @Test
+    void intern_shouldReturnCanonicalInstance() {
+        StringPool pool = new StringPool(16);
+        String first = new String("NOK");
+        String second = new String("NOK");
+
+        assertThat(pool.intern(first)).isSameAs(first);
+        assertThat(pool.intern(second)).isSameAs(first);
+        assertThat(pool.intern((String) null)).isNull();
+    }
+
+    @Test
+    void intern_shouldReturnCanonicalInstanceForCharSequence() {
+        StringPool pool = new StringPool(16);
+        String pooled = pool.intern("SEK");
+
+        assertThat(pool.intern(new StringBuilder("SEK"))).isSameAs(pooled);
+        assertThat(pool.intern(new StringBuilder("DKK"))).isEqualTo("DKK");
+        assertThat(pool.intern((CharSequence) null)).isNull();
+    }
+
+    @Test
+    void intern_shouldReturnCanonicalInstanceForCharArraySlice() {
+        StringPool pool = new StringPool(16);
+        String pooled = pool.intern("EUR");
+        char[] chars = "xxEURxx".toCharArray();
+
+        assertThat(pool.intern(chars, 2, 3)).isSameAs(pooled);
+        assertThat(pool.intern(chars, 0, 2)).isEqualTo("xx");
+        assertThatThrownBy(() -> pool.intern(chars, 5, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void intern_shouldBeBounded() {
+        StringPool pool = new StringPool(8);
+        IntStream.range(0, 1000).forEach(i -> pool.intern("value" + i));
+
+        StringPool.Stats stats = pool.stats();
+        assertThat(pool.capacity()).isEqualTo(8);
+        assertThat(stats.misses()).isEqualTo(1000);
+        assertThat(stats.misses() - stats.evictions()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    void intern_shouldEvictLeastRecentlyUsed() {
+        StringPool pool = new StringPool(2);
+        String hot = pool.intern(new String("hot"));
+        String cold = pool.intern(new String("cold1"));
+
+        assertThat(pool.intern(new String("hot"))).isSameAs(hot);
+        pool.intern(new String("cold2"));
+
+        assertThat(pool.intern(new String("hot"))).isSameAs(hot);
+        assertThat(pool.intern(new String("cold1"))).isNotSameAs(cold);
+    }
+
+    @Test
+    void stats_shouldCountHitsAndMisses() {
+        StringPool pool = new StringPool(16);
+        pool.intern("a");
+        pool.intern("a");
+        pool.intern("a");
+        pool.intern("b");
+
+        assertThat(pool.stats()).isEqualTo(new StringPool.Stats(2, 2, 0));
+        assertThat(pool.stats().hitRate()).isEqualTo(0.5);
+
+        pool.clear();
+        assertThat(pool.stats().hitRate()).isZero();
+        assertThat(pool.intern(new String("a"))).isNotSameAs("a");
+    }
+
+    @Test
+    void constructor_shouldRoundCapacityToPowerOfTwo() {
+        assertThat(new StringPool(1).capacity()).isEqualTo(2);
+        assertThat(new StringPool(100).capacity()).isEqualTo(128);
+        assertThatThrownBy(() -> new StringPool(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
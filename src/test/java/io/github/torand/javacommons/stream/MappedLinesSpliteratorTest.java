@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.javacommons.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static io.github.torand.javacommons.stream.StreamHelper.lines;
+import static io.github.torand.javacommons.stream.StreamHelper.linesWithIndex;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedLinesSpliteratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void lines_shouldMatchFilesLines() throws IOException {
+        for (String content : List.of("", "a", "a\n", "a\nb", "a\r\nb\rc\n\nd", "\n\n", "æøå\r\n€uro\n")) {
+            Path file = write(content);
+            try (Stream<String> lines = lines(file); Stream<String> expected = Files.lines(file)) {
+                assertThat(lines.toList()).as("content %s", content).isEqualTo(expected.toList());
+            }
+        }
+    }
+
+    @Test
+    void lines_shouldReadLinesSpanningRegions() throws IOException {
+        List<String> expected = IntStream.range(0, 500).mapToObj(i -> "line\r" + "x".repeat(i % 13)).toList();
+        Path file = write(String.join("\r\n", expected));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedLinesSpliterator<String> spliterator = new MappedLinesSpliterator<>(channel, StandardCharsets.UTF_8, (line, index) -> line, false, 16);
+            List<String> actual = StreamSupport.stream(spliterator, false).toList();
+            assertThat(actual).isEqualTo(Files.readAllLines(file));
+        }
+    }
+
+    @Test
+    void lines_shouldFailOnLineLongerThanRegion() throws IOException {
+        Path file = write("short\n" + "x".repeat(100) + "\n");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedLinesSpliterator<String> spliterator = new MappedLinesSpliterator<>(channel, StandardCharsets.UTF_8, (line, index) -> line, false, 16);
+            assertThatThrownBy(() -> StreamSupport.stream(spliterator, false).toList())
+                .isInstanceOf(UncheckedIOException.class);
+        }
+    }
+
+    @Test
+    void lines_shouldGiveSameResultInParallel() throws IOException {
+        Path file = write(IntStream.range(0, 100_000).mapToObj(i -> "line " + i).collect(Collectors.joining("\n")));
+
+        try (Stream<String> lines = lines(file)) {
+            Spliterator<String> spliterator = lines.spliterator();
+            assertThat(spliterator.trySplit()).isNotNull();
+        }
+        try (Stream<String> lines = lines(file).parallel()) {
+            assertThat(lines.toList()).isEqualTo(Files.readAllLines(file));
+        }
+    }
+
+    @Test
+    void lines_shouldPassLongIndexesAcrossSplits() throws IOException {
+        Path file = write(IntStream.range(0, 100_000).mapToObj(Integer::toString).collect(Collectors.joining("\n")));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedLinesSpliterator<Long> spliterator = new MappedLinesSpliterator<>(channel, StandardCharsets.UTF_8, (line, index) -> Long.parseLong(line) - index, true, 1 << 16);
+            assertThat(StreamSupport.stream(spliterator, true).allMatch(difference -> difference == 0L)).isTrue();
+        }
+    }
+
+    @Test
+    void linesWithIndex_shouldIndexLinesInParallel() throws IOException {
+        Path file = write(IntStream.range(0, 100_000).mapToObj(Integer::toString).collect(Collectors.joining("\r\n")));
+
+        try (Stream<IndexedValue<String>> lines = linesWithIndex(file).parallel()) {
+            assertThat(lines.allMatch(line -> line.value().equals(Integer.toString(line.index())))).isTrue();
+        }
+        try (Stream<IndexedValue<String>> lines = linesWithIndex(file)) {
+            assertThat(lines.count()).isEqualTo(100_000);
+        }
+    }
+
+    @Test
+    void lines_shouldFallBackForOtherCharsets() throws IOException {
+        Path file = tempDir.resolve("utf16.txt");
+        Files.writeString(file, "a\nb", StandardCharsets.UTF_16);
+
+        try (Stream<String> lines = lines(file, StandardCharsets.UTF_16)) {
+            assertThat(lines).containsExactly("a", "b");
+        }
+        try (Stream<IndexedValue<String>> lines = linesWithIndex(file, StandardCharsets.UTF_16)) {
+            assertThat(lines).containsExactly(new IndexedValue<>("a", 0), new IndexedValue<>("b", 1));
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "lines", ".txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -2,12 +2,37 @@ package io.github.torand.javacommons.stream;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static io.github.torand.javacommons.stream.StreamHelper.chunked;
+import static io.github.torand.javacommons.stream.StreamHelper.concatAndStream;
+import static io.github.torand.javacommons.stream.StreamHelper.concatStreams;
+import static io.github.torand.javacommons.stream.StreamHelper.forEachIndexed;
+import static io.github.torand.javacommons.stream.StreamHelper.forEachZipped;
+import static io.github.torand.javacommons.stream.StreamHelper.mapConcurrent;
+import static io.github.torand.javacommons.stream.StreamHelper.mapConcurrentUnordered;
+import static io.github.torand.javacommons.stream.StreamHelper.groupRuns;
+import static io.github.torand.javacommons.stream.StreamHelper.mapIndexed;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafelyWithIndex;
+import static io.github.torand.javacommons.stream.StreamHelper.streamReversed;
 import static io.github.torand.javacommons.stream.StreamHelper.toReversedList;
+import static io.github.torand.javacommons.stream.StreamHelper.windowed;
+import static io.github.torand.javacommons.stream.StreamHelper.withIndex;
+import static io.github.torand.javacommons.stream.StreamHelper.zip;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class StreamHelperTest {
 
@@ -27,4 +52,376 @@ class StreamHelperTest {
         assertThat(indices).containsExactly(0, 1, 2);
         assertThat(values).containsExactly(elements);
     }
-}
\ No newline at end of file
+
+    @Test
+    void withIndex_shouldProvideElementIndexInParallelStream() {
+        List<Integer> elements = IntStream.range(0, 100_000).boxed().toList();
+
+        List<IndexedValue<Integer>> indexed = withIndex(elements.parallelStream()).toList();
+
+        assertThat(indexed).hasSize(elements.size());
+        assertThat(indexed).allMatch(e -> e.index() == e.value());
+    }
+
+    @Test
+    void forEachIndexed_shouldPassZeroBasedElementIndex() {
+        List<String> result = new ArrayList<>();
+
+        forEachIndexed(List.of("a", "b"), (e, i) -> result.add(e + i));
+        forEachIndexed(new LinkedList<>(List.of("c", "d")), (e, i) -> result.add(e + i));
+        forEachIndexed(new String[] {"e", "f"}, (e, i) -> result.add(e + i));
+        forEachIndexed(Stream.of("g", "h"), (e, i) -> result.add(e + i));
+
+        assertThat(result).containsExactly("a0", "b1", "c0", "d1", "e0", "f1", "g0", "h1");
+    }
+
+    @Test
+    void mapIndexed_shouldPassZeroBasedElementIndex() {
+        assertThat(mapIndexed(List.of("a", "b", "c"), (e, i) -> e + i)).containsExactly("a0", "b1", "c2");
+        assertThat(mapIndexed(new LinkedList<>(List.of("a", "b")), (e, i) -> e + i)).containsExactly("a0", "b1");
+        assertThat(mapIndexed(new String[] {"a", "b"}, (e, i) -> e + i)).containsExactly("a0", "b1");
+    }
+
+    @Test
+    void chunked_shouldGroupElementsIntoChunks() {
+        assertThat(chunked(Stream.of(1, 2, 3, 4, 5), 2)).containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+        assertThat(chunked(Stream.of(1, 2, 3, 4), 2)).containsExactly(List.of(1, 2), List.of(3, 4));
+        assertThat(chunked(Stream.empty(), 2)).isEmpty();
+        assertThatThrownBy(() -> chunked(Stream.of(1), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void chunked_shouldBeLazy() {
+        assertThat(chunked(Stream.iterate(0, i -> i + 1), 3).limit(2)).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5));
+    }
+
+    @Test
+    void windowed_shouldReturnSlidingWindows() {
+        assertThat(windowed(Stream.of(1, 2, 3, 4, 5), 3, 1)).containsExactly(List.of(1, 2, 3), List.of(2, 3, 4), List.of(3, 4, 5));
+        assertThat(windowed(Stream.of(1, 2, 3, 4, 5), 2, 3)).containsExactly(List.of(1, 2), List.of(4, 5));
+        assertThat(windowed(Stream.of(1, 2), 3, 1)).isEmpty();
+        assertThatThrownBy(() -> windowed(Stream.of(1), 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void windowed_shouldGiveSameResultInParallel() {
+        for (int count : new int[] {0, 1, 7, 100, 1001}) {
+            for (int size : new int[] {1, 2, 5, 64}) {
+                for (int step : new int[] {1, 3, 5, 70}) {
+                    List<Integer> elements = IntStream.range(0, count).boxed().toList();
+                    assertThat(windowed(elements.parallelStream(), size, step).toList())
+                        .as("count %d, size %d, step %d", count, size, step)
+                        .isEqualTo(windowed(elements.stream(), size, step).toList());
+                }
+                List<Integer> elements = IntStream.range(0, count).boxed().toList();
+                assertThat(chunked(elements.parallelStream(), size).toList())
+                    .isEqualTo(chunked(elements.stream(), size).toList());
+            }
+        }
+    }
+
+    @Test
+    void windowed_shouldSplitSizedSource() {
+        Spliterator<List<Integer>> spliterator = windowed(IntStream.range(0, 100).boxed().toList().stream(), 4, 3).spliterator();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(33);
+
+        Spliterator<List<Integer>> prefix = spliterator.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown()).isEqualTo(33);
+    }
+
+    @Test
+    void groupRuns_shouldGroupConsecutiveElementsWithEqualKeys() {
+        assertThat(groupRuns(Stream.of("a1", "a2", "b1", "a3", "c1", "c2"), s -> s.charAt(0)))
+            .containsExactly(List.of("a1", "a2"), List.of("b1"), List.of("a3"), List.of("c1", "c2"));
+        assertThat(groupRuns(Stream.of(1, null, null, 2), i -> i)).containsExactly(List.of(1), Arrays.asList(null, null), List.of(2));
+        assertThat(groupRuns(Stream.empty(), i -> i)).isEmpty();
+    }
+
+    @Test
+    void groupRuns_shouldPreserveOrderInParallel() {
+        List<Integer> elements = IntStream.range(0, 1000).boxed().toList();
+        assertThat(groupRuns(elements.parallelStream(), i -> i / 10).map(List::size).collect(Collectors.toSet())).containsExactly(10);
+    }
+
+    @Test
+    void chunked_shouldCloseSourceStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        chunked(Stream.of(1, 2, 3).onClose(() -> closed.set(true)), 2).close();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void concatStreams_shouldConcatenateInOrder() {
+        assertThat(concatStreams(Stream.of(1, 2), Stream.empty(), Stream.of(3))).containsExactly(1, 2, 3);
+        assertThat(concatStreams()).isEmpty();
+        assertThat(concatAndStream(List.of(1), null)).containsExactly(1);
+    }
+
+    @Test
+    void concatStreams_shouldPreserveSize() {
+        Spliterator<Integer> spliterator = concatStreams(List.of(1, 2).stream(), List.of(3, 4, 5).stream()).spliterator();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(5);
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(concatAndStream(List.of(1), List.of(2, 3)).spliterator().getExactSizeIfKnown()).isEqualTo(3);
+    }
+
+    @Test
+    void concatStreams_shouldSplitOnStreamBoundaries() {
+        Spliterator<Integer> spliterator = concatStreams(List.of(1, 2).stream(), List.of(3).stream(), List.of(4, 5).stream()).spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(2);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3);
+    }
+
+    @Test
+    void concatStreams_shouldGiveSameResultInParallel() {
+        List<Integer> partition = IntStream.range(0, 1000).boxed().toList();
+        assertThat(concatStreams(partition.stream(), partition.parallelStream(), partition.stream()).isParallel()).isTrue();
+        assertThat(concatStreams(partition.parallelStream(), partition.parallelStream(), partition.parallelStream()).toList())
+            .isEqualTo(concatStreams(partition.stream(), partition.stream(), partition.stream()).toList());
+    }
+
+    @Test
+    void concatStreams_shouldBeLazy() {
+        assertThat(concatStreams(Stream.iterate(0, i -> i + 1), Stream.of(-1)).iterator().next()).isZero();
+    }
+
+    @Test
+    void concatStreams_shouldCloseAllStreams() {
+        AtomicBoolean firstClosed = new AtomicBoolean();
+        AtomicBoolean secondClosed = new AtomicBoolean();
+        Stream<Integer> first = Stream.of(1).onClose(() -> { throw new IllegalStateException("first"); });
+        Stream<Integer> second = Stream.of(2).onClose(() -> secondClosed.set(true));
+        first = first.onClose(() -> firstClosed.set(true));
+
+        assertThatThrownBy(concatStreams(first, second)::close).hasMessage("first");
+        assertThat(firstClosed).isTrue();
+        assertThat(secondClosed).isTrue();
+    }
+
+    @Test
+    void concatStreams_shouldCloseEachStreamOnceConsumed() {
+        AtomicInteger firstClosed = new AtomicInteger();
+        AtomicInteger secondClosed = new AtomicInteger();
+        Stream<Integer> first = Stream.of(1, 2).onClose(firstClosed::incrementAndGet);
+        Stream<Integer> second = Stream.of(3).onClose(secondClosed::incrementAndGet);
+
+        assertThat(concatStreams(first, second).toList()).containsExactly(1, 2, 3);
+        assertThat(firstClosed).hasValue(1);
+        assertThat(secondClosed).hasValue(1);
+    }
+
+    @Test
+    void concatStreams_shouldCloseConsumedStreamsWhenTraversedStepwise() {
+        AtomicInteger firstClosed = new AtomicInteger();
+        AtomicInteger secondClosed = new AtomicInteger();
+        Stream<Integer> first = Stream.of(1).onClose(firstClosed::incrementAndGet);
+        Stream<Integer> second = Stream.of(2, 3).onClose(secondClosed::incrementAndGet);
+
+        try (Stream<Integer> concatenated = concatStreams(first, second)) {
+            assertThat(concatenated.filter(i -> i >= 2).findFirst()).contains(2);
+            assertThat(firstClosed).hasValue(1);
+            assertThat(secondClosed).hasValue(0);
+        }
+        assertThat(secondClosed).hasValue(1);
+    }
+
+    @Test
+    void toReversedList_shouldCollectInReverseOrderInParallel() {
+        List<Integer> elements = IntStream.range(0, 10_000).boxed().toList();
+        List<Integer> expected = new ArrayList<>(elements);
+        Collections.reverse(expected);
+
+        assertThat(elements.parallelStream().collect(toReversedList())).isEqualTo(expected);
+        assertThat(Stream.of("a", null, "b").collect(toReversedList())).containsExactly("b", null, "a");
+    }
+
+    @Test
+    void streamReversed_shouldStreamFromLastElement() {
+        assertThat(streamReversed(List.of(1, 2, 3))).containsExactly(3, 2, 1);
+        assertThat(streamReversed(new LinkedList<>(List.of(1, 2, 3)))).containsExactly(3, 2, 1);
+        assertThat(streamReversed(null)).isEmpty();
+    }
+
+    @Test
+    void streamReversed_shouldSplitRandomAccessList() {
+        List<Integer> elements = IntStream.range(0, 1000).boxed().toList();
+        Spliterator<Integer> spliterator = streamReversed(elements).spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown()).isEqualTo(1000);
+        assertThat(streamReversed(elements).parallel().toList()).isEqualTo(elements.stream().collect(toReversedList()));
+    }
+
+    @Test
+    void mapConcurrent_shouldPreserveOrder() {
+        List<Integer> elements = IntStream.range(0, 200).boxed().toList();
+        assertThat(mapConcurrent(elements.stream(), i -> {
+            sleep(i % 3);
+            return i * 2;
+        }, 8).toList()).isEqualTo(elements.stream().map(i -> i * 2).toList());
+    }
+
+    @Test
+    void mapConcurrentUnordered_shouldReturnAllMappedElements() {
+        List<Integer> elements = IntStream.range(0, 200).boxed().toList();
+        assertThat(mapConcurrentUnordered(elements.stream(), i -> i * 2, 8))
+            .containsExactlyInAnyOrderElementsOf(elements.stream().map(i -> i * 2).toList());
+    }
+
+    @Test
+    void mapConcurrent_shouldBoundConcurrencyAndConsumption() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger consumed = new AtomicInteger();
+
+        Stream<Integer> source = Stream.iterate(0, i -> i + 1).peek(i -> consumed.incrementAndGet());
+        List<Integer> result = mapConcurrent(source, i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(1);
+            running.decrementAndGet();
+            return i;
+        }, 4).limit(20).toList();
+
+        assertThat(result).hasSize(20);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(4);
+        assertThat(consumed.get()).isLessThanOrEqualTo(24);
+    }
+
+    @Test
+    void mapConcurrent_shouldRethrowMappingException() {
+        Stream<Integer> mapped = mapConcurrent(Stream.of(1, 2, 3), i -> {
+            if (i == 2) {
+                throw new IllegalArgumentException("invalid " + i);
+            }
+            return i;
+        }, 2);
+
+        assertThatThrownBy(mapped::toList)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("invalid 2");
+        assertThatThrownBy(() -> mapConcurrent(Stream.of(1), i -> i, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void mapConcurrent_shouldCloseSourceStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        try (Stream<Integer> mapped = mapConcurrent(Stream.of(1, 2).onClose(() -> closed.set(true)), i -> i, 2)) {
+            assertThat(mapped.findFirst()).contains(1);
+        }
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void mapConcurrent_shouldCancelMappingsWhenSourceFails() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        Stream<Integer> source = Stream.iterate(1, i -> {
+            if (i == 2) {
+                awaitQuietly(started);
+                throw new IllegalStateException("source failed");
+            }
+            return i + 1;
+        });
+
+        Stream<Integer> mapped = mapConcurrent(source, i -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return i;
+        }, 4);
+
+        assertThatThrownBy(mapped::toList)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("source failed");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void mapConcurrent_shouldNotRetainConsumedResults() {
+        for (boolean ordered : new boolean[] {true, false}) {
+            try (ConcurrentMappingSpliterator<Integer, Integer> mapping = new ConcurrentMappingSpliterator<>(IntStream.range(0, 200).boxed().spliterator(), i -> i, 4, ordered)) {
+                AtomicInteger consumed = new AtomicInteger();
+                while (mapping.tryAdvance(i -> consumed.incrementAndGet())) {
+                    assertThat(mapping.queuedCompletions()).isLessThanOrEqualTo(4);
+                }
+                assertThat(consumed).hasValue(200);
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void zip_shouldCombineElementsPairwise() {
+        assertThat(zip(Stream.of("a", "b", "c"), Stream.of(1, 2), (s, i) -> s + i)).containsExactly("a1", "b2");
+        assertThat(zip(List.of("a", "b"), List.of(1, 2, 3), (s, i) -> s + i)).containsExactly("a1", "b2");
+        assertThat(zip(new LinkedList<>(List.of("a", "b")), List.of(1, 2), (s, i) -> s + i)).containsExactly("a1", "b2");
+        assertThat(zip(new String[] {"a"}, new Integer[] {1, 2}, (s, i) -> s + i)).containsExactly("a1");
+        assertThat(zip((List<String>) null, List.of(1), (s, i) -> s + i)).isEmpty();
+        assertThat(zip((String[]) null, new Integer[] {1}, (s, i) -> s + i)).isEmpty();
+    }
+
+    @Test
+    void zip_shouldGiveSameResultInParallel() {
+        for (int secondSize : new int[] {1000, 1003, 100_000}) {
+            List<Integer> first = IntStream.range(0, 1000).boxed().toList();
+            List<Integer> second = IntStream.range(0, secondSize).boxed().toList();
+
+            assertThat(zip(first.parallelStream(), second.parallelStream(), Integer::sum).toList())
+                .as("second size %d", secondSize)
+                .isEqualTo(first.stream().map(i -> 2 * i).toList());
+        }
+    }
+
+    @Test
+    void zip_shouldSplitSizedStreamsInSync() {
+        List<Integer> elements = IntStream.range(0, 1000).boxed().toList();
+        Spliterator<Integer> spliterator = zip(elements.stream(), elements.stream(), Integer::sum).spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown()).isEqualTo(1000);
+    }
+
+    @Test
+    void zip_shouldCloseBothStreams() {
+        AtomicBoolean firstClosed = new AtomicBoolean();
+        AtomicBoolean secondClosed = new AtomicBoolean();
+        zip(Stream.of(1).onClose(() -> firstClosed.set(true)), Stream.of(2).onClose(() -> secondClosed.set(true)), Integer::sum).close();
+
+        assertThat(firstClosed).isTrue();
+        assertThat(secondClosed).isTrue();
+    }
+
+    @Test
+    void forEachZipped_shouldVisitPairs() {
+        List<String> visited = new ArrayList<>();
+        forEachZipped(List.of("a", "b", "c"), new LinkedList<>(List.of(1, 2)), (s, i) -> visited.add(s + i));
+        forEachZipped(new String[] {"x", "y"}, new Integer[] {9, 8}, (s, i) -> visited.add(s + i));
+        forEachZipped(List.of("a"), List.of(3), (s, i) -> visited.add(s + i));
+        forEachZipped((List<String>) null, List.of(1), (s, i) -> visited.add(s + i));
+
+        assertThat(visited).containsExactly("a1", "b2", "x9", "y8", "a3");
+    }
+}